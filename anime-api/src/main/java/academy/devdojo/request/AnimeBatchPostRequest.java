@@ -0,0 +1,19 @@
+package academy.devdojo.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@Setter
+@ToString
+public class AnimeBatchPostRequest {
+    @NotEmpty(message = "The field 'animes' is required")
+    @Size(max = 10_000, message = "The field 'animes' accepts at most 10000 animes")
+    List<@Valid AnimePostRequest> animes;
+}
@@ -0,0 +1,17 @@
+package academy.devdojo.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@Setter
+@ToString
+public class AnimeBulkRenameRequest {
+    @NotEmpty(message = "The field 'animes' is required")
+    List<@Valid AnimePutRequest> animes;
+}
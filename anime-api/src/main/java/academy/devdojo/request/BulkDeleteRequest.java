@@ -0,0 +1,17 @@
+package academy.devdojo.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@Setter
+@ToString
+public class BulkDeleteRequest {
+    @NotEmpty(message = "The field 'ids' is required")
+    List<@NotNull Long> ids;
+}
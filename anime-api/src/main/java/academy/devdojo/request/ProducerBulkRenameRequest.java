@@ -0,0 +1,17 @@
+package academy.devdojo.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@Setter
+@ToString
+public class ProducerBulkRenameRequest {
+    @NotEmpty(message = "The field 'producers' is required")
+    List<@Valid ProducerPutRequest> producers;
+}
@@ -0,0 +1,18 @@
+package academy.devdojo.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+public class AnimeGetResponse {
+    private Long id;
+    private String name;
+    @JsonIgnore
+    private Long version;
+}
@@ -0,0 +1,15 @@
+package academy.devdojo.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+public class AnimeKeysetPageResponse {
+    private List<AnimeGetResponse> content;
+    private String next;
+}
@@ -7,7 +7,6 @@ import lombok.Setter;
 @Getter
 @Setter
 @Builder
-public class AnimeGetResponse {
-    private Long id;
-    private String name;
+public class BulkOperationResponse {
+    private int affected;
 }
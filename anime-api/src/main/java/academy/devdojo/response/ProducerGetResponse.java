@@ -1,5 +1,7 @@
 package academy.devdojo.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -7,7 +9,10 @@ import lombok.Setter;
 @Getter
 @Setter
 @Builder
+@AllArgsConstructor
 public class ProducerGetResponse {
     private Long id;
     private String name;
+    @JsonIgnore
+    private Long version;
 }
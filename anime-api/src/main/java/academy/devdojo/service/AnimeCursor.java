@@ -0,0 +1,44 @@
+package academy.devdojo.service;
+
+import academy.devdojo.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of a keyset page: the sort key and the last row of the previous page. Clients only see it as the opaque
+ * token returned by {@link #encode()}.
+ */
+public record AnimeCursor(SortKey sortKey, String name, long id) {
+
+    public enum SortKey {
+        ID, NAME
+    }
+
+    public static AnimeCursor first(SortKey sortKey) {
+        return new AnimeCursor(sortKey, "", 0);
+    }
+
+    public static AnimeCursor after(SortKey sortKey, String name, long id) {
+        return new AnimeCursor(sortKey, sortKey == SortKey.NAME ? name : "", id);
+    }
+
+    public static AnimeCursor decode(String token) {
+        try {
+            var decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            var parts = decoded.split(":", 3);
+            var sortKey = SortKey.valueOf(parts[0]);
+            var id = Long.parseLong(parts[1]);
+            if (sortKey == SortKey.NAME) return new AnimeCursor(sortKey, parts[2], id);
+            if (parts.length != 2) throw new IllegalArgumentException();
+            return new AnimeCursor(sortKey, "", id);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new InvalidCursorException("Invalid cursor '%s'".formatted(token));
+        }
+    }
+
+    public String encode() {
+        var raw = sortKey == SortKey.NAME ? "%s:%d:%s".formatted(sortKey, id, name) : "%s:%d".formatted(sortKey, id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,10 @@
+package academy.devdojo.service;
+
+import java.util.List;
+
+/**
+ * One keyset page of animes; {@code next} is the token of the following page, or null on the last one. The anime type
+ * is the entity of whichever service built the page.
+ */
+public record AnimeKeysetPage<A>(List<A> content, String next) {
+}
@@ -3,6 +3,8 @@ package academy.devdojo.util;
 public class Constants {
     public static final String PRODUCER_NOT_FOUND = "Producer not found";
     public static final String ANIME_NOT_FOUND = "Anime not found";
+    public static final String PRODUCER_MODIFIED = "Producer was modified since it was read";
+    public static final String ANIME_MODIFIED = "Anime was modified since it was read";
 
 
     private Constants() {
@@ -0,0 +1,12 @@
+package academy.devdojo;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class AnimeServiceReactiveApplication {
+    public static void main(String[] args) {
+        SpringApplication.run(AnimeServiceReactiveApplication.class, args);
+    }
+
+}
@@ -0,0 +1,156 @@
+package academy.devdojo.controller;
+
+import academy.devdojo.domain.Anime;
+import academy.devdojo.http.EntityTags;
+import academy.devdojo.mapper.AnimeMapper;
+import academy.devdojo.request.AnimeBatchPostRequest;
+import academy.devdojo.request.AnimeBulkRenameRequest;
+import academy.devdojo.request.AnimePostRequest;
+import academy.devdojo.request.AnimePutRequest;
+import academy.devdojo.request.BulkDeleteRequest;
+import academy.devdojo.response.AnimeGetResponse;
+import academy.devdojo.response.AnimeKeysetPageResponse;
+import academy.devdojo.response.AnimePostResponse;
+import academy.devdojo.response.BulkOperationResponse;
+import academy.devdojo.service.AnimeCursor;
+import academy.devdojo.service.AnimeService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+
+@RestController
+@RequestMapping(path = "v1/animes")
+@Log4j2
+@RequiredArgsConstructor
+public class AnimeController {
+    private final AnimeMapper mapper;
+
+    private final AnimeService animeService;
+
+    @GetMapping("list")
+    public Mono<ResponseEntity<List<AnimeGetResponse>>> list() {
+
+        log.info("Request received to list all animes");
+
+        return animeService.findAll()
+                .map(mapper::toAnimeGetResponse)
+                .collectList()
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping(value = "stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<AnimeGetResponse> stream() {
+
+        log.info("Request received to stream all animes");
+
+        return animeService.streamAll().map(mapper::toAnimeGetResponse);
+    }
+
+    @GetMapping("paginated")
+    public Mono<ResponseEntity<Slice<AnimeGetResponse>>> list(@ParameterObject Pageable pageable,
+                                                              @RequestParam(defaultValue = "true") boolean withTotal) {
+
+        log.info("Request received to list all animes, with total '{}'", withTotal);
+
+        Mono<? extends Slice<Anime>> animes = withTotal ? animeService.findAll(pageable) : animeService.findSlice(pageable);
+
+        return animes.map(slice -> ResponseEntity.ok(slice.map(mapper::toAnimeGetResponse)));
+
+    }
+
+    @GetMapping("keyset")
+    public Mono<ResponseEntity<AnimeKeysetPageResponse>> list(@RequestParam(required = false) String cursor,
+                                                              @RequestParam(defaultValue = "ID") AnimeCursor.SortKey sort,
+                                                              @RequestParam(defaultValue = "20") int size) {
+
+        log.info("Request received to list animes after cursor '{}'", cursor);
+
+        return animeService.findAll(cursor, sort, size)
+                .map(page -> ResponseEntity.ok(mapper.toAnimeKeysetPageResponse(page)));
+    }
+
+    @GetMapping("{id}")
+    public Mono<ResponseEntity<AnimeGetResponse>> findById(@PathVariable Long id) {
+        log.info("Request received find anime by id '{}'", id);
+
+        return animeService.findById(id)
+                .map(anime -> ResponseEntity.ok().eTag(EntityTags.of(anime.getVersion())).body(mapper.toAnimeGetResponse(anime)));
+    }
+
+    @GetMapping("filter")
+    public Mono<ResponseEntity<AnimeGetResponse>> findByName(@RequestParam(required = false) String name) {
+        log.info("Request received to list all animes, param name '{}'", name);
+
+        return animeService.findByName(name)
+                .map(anime -> ResponseEntity.ok(mapper.toAnimeGetResponse(anime)));
+    }
+
+    @PostMapping("post")
+    public Mono<ResponseEntity<AnimePostResponse>> save(@RequestBody @Valid AnimePostRequest request) {
+
+        log.info("Request received save anime '{}'", request);
+
+        var anime = mapper.toAnime(request);
+
+        return animeService.save(anime)
+                .map(saved -> ResponseEntity.status(HttpStatus.CREATED).body(mapper.toAnimePostResponse(saved)));
+    }
+
+    @PostMapping("batch")
+    public Mono<ResponseEntity<List<AnimePostResponse>>> saveAll(@RequestBody @Valid AnimeBatchPostRequest request) {
+
+        log.info("Request received to save '{}' animes in batch", request.getAnimes().size());
+
+        return animeService.saveAll(mapper.toAnimes(request.getAnimes()))
+                .map(animes -> ResponseEntity.status(HttpStatus.CREATED).body(mapper.toAnimePostResponses(animes)));
+    }
+
+    @PostMapping("bulk/delete")
+    public Mono<ResponseEntity<BulkOperationResponse>> deleteAll(@RequestBody @Valid BulkDeleteRequest request) {
+        log.info("Request received to delete '{}' animes by id", request.getIds().size());
+
+        return animeService.deleteAllById(request.getIds())
+                .map(affected -> ResponseEntity.ok(BulkOperationResponse.builder().affected(affected).build()));
+    }
+
+    @PostMapping("bulk/rename")
+    public Mono<ResponseEntity<BulkOperationResponse>> renameAll(@RequestBody @Valid AnimeBulkRenameRequest request) {
+        log.info("Request received to rename '{}' animes", request.getAnimes().size());
+
+        return animeService.renameAll(mapper.toAnimesToRename(request.getAnimes()))
+                .map(affected -> ResponseEntity.ok(BulkOperationResponse.builder().affected(affected).build()));
+    }
+
+    @DeleteMapping("{id}")
+    public Mono<ResponseEntity<Void>> delete(@PathVariable Long id) {
+        log.info("Request received to delete the anime by id'{}'", id);
+
+        return animeService.delete(id).then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    @PutMapping
+    public Mono<ResponseEntity<Void>> update(@RequestBody @Valid AnimePutRequest request,
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.info("Request received to update the anime '{}'", request);
+
+        var animeToUpdate = mapper.toAnime(request);
+        animeToUpdate.setVersion(EntityTags.expectedVersion(ifMatch));
+
+        return animeService.update(animeToUpdate).then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+
+}
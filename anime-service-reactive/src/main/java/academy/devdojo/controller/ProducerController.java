@@ -0,0 +1,116 @@
+package academy.devdojo.controller;
+
+import academy.devdojo.http.EntityTags;
+import academy.devdojo.mapper.ProducerMapper;
+import academy.devdojo.request.BulkDeleteRequest;
+import academy.devdojo.request.ProducerBulkRenameRequest;
+import academy.devdojo.request.ProducerPostRequest;
+import academy.devdojo.request.ProducerPutRequest;
+import academy.devdojo.response.BulkOperationResponse;
+import academy.devdojo.response.ProducerGetResponse;
+import academy.devdojo.response.ProducerPostResponse;
+import academy.devdojo.service.ProducerService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@RequestMapping(path = {"v1/producers/", "v1/producers"})
+@Log4j2
+@RequiredArgsConstructor
+
+public class ProducerController {
+
+    private final ProducerMapper mapper;
+    private final ProducerService producerService;
+
+    @GetMapping
+    public Mono<ResponseEntity<List<ProducerGetResponse>>> list() {
+        log.info("Request received to list all producers");
+
+        return producerService.findAll()
+                .map(mapper::toProducerGetResponse)
+                .collectList()
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping(value = "stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ProducerGetResponse> stream() {
+        log.info("Request received to stream all producers");
+
+        return producerService.streamAll().map(mapper::toProducerGetResponse);
+    }
+
+    @GetMapping("{id}")
+    public Mono<ResponseEntity<ProducerGetResponse>> findById(@PathVariable Long id) {
+        log.info("Request received find producer by id '{}'", id);
+
+        return producerService.findById(id)
+                .map(producer -> ResponseEntity.ok().eTag(EntityTags.of(producer.getVersion())).body(mapper.toProducerGetResponse(producer)));
+    }
+
+
+    @GetMapping("filter")
+    public Mono<ResponseEntity<ProducerGetResponse>> findByName(@RequestParam(required = false) String name) {
+        log.info("Request received to list all producers, param name '{}'", name);
+
+        return producerService.findByName(name)
+                .map(producer -> ResponseEntity.ok(mapper.toProducerGetResponse(producer)));
+    }
+
+    @PostMapping(value = "post", produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE, headers = "x-api-version=v1")
+
+    public Mono<ResponseEntity<ProducerPostResponse>> save(@RequestBody @Valid ProducerPostRequest request) {
+
+        var producer = mapper.toProducer(request);
+
+        return producerService.save(producer)
+                .map(saved -> ResponseEntity.status(HttpStatus.CREATED).body(mapper.toProducerPostResponse(saved)));
+    }
+
+    @PostMapping("bulk/delete")
+    public Mono<ResponseEntity<BulkOperationResponse>> deleteAll(@RequestBody @Valid BulkDeleteRequest request) {
+        log.info("Request received to delete '{}' producers by id", request.getIds().size());
+
+        return producerService.deleteAllById(request.getIds())
+                .map(affected -> ResponseEntity.ok(BulkOperationResponse.builder().affected(affected).build()));
+    }
+
+    @PostMapping("bulk/rename")
+    public Mono<ResponseEntity<BulkOperationResponse>> renameAll(@RequestBody @Valid ProducerBulkRenameRequest request) {
+        log.info("Request received to rename '{}' producers", request.getProducers().size());
+
+        return producerService.renameAll(mapper.toProducersToRename(request.getProducers()))
+                .map(affected -> ResponseEntity.ok(BulkOperationResponse.builder().affected(affected).build()));
+    }
+
+    @DeleteMapping("{id}")
+    public Mono<ResponseEntity<Void>> deleteById(@PathVariable Long id) {
+        log.info("Request received to delete the producer by id '{}'", id);
+
+        return producerService.delete(id).then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    @PutMapping
+    public Mono<ResponseEntity<Void>> update(@RequestBody @Valid ProducerPutRequest request,
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+        log.info("Request received to update the producer '{}'", request);
+
+        var producerToUpdate = mapper.toProducer(request);
+        producerToUpdate.setVersion(EntityTags.expectedVersion(ifMatch));
+
+        return producerService.update(producerToUpdate).then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+
+}
@@ -0,0 +1,26 @@
+package academy.devdojo.domain;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Getter
+@Setter
+@Builder
+@ToString
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("anime")
+public class Anime {
+    @EqualsAndHashCode.Include
+    @Id
+    private Long id;
+    @JsonProperty(value = "full_name")
+    private String name;
+    @Version
+    private Long version;
+
+}
@@ -0,0 +1,31 @@
+package academy.devdojo.domain;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.ReadOnlyProperty;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@ToString
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@Table("producer")
+@AllArgsConstructor
+@NoArgsConstructor
+public class Producer {
+
+    @EqualsAndHashCode.Include
+    @Id
+    private Long id;
+    private String name;
+    @ReadOnlyProperty
+    private LocalDateTime createdAt;
+    @Version
+    private Long version;
+
+
+}
@@ -0,0 +1,40 @@
+package academy.devdojo.mapper;
+
+import academy.devdojo.domain.Anime;
+import academy.devdojo.request.AnimePostRequest;
+import academy.devdojo.request.AnimePutRequest;
+import academy.devdojo.response.AnimeGetResponse;
+import academy.devdojo.response.AnimeKeysetPageResponse;
+import academy.devdojo.response.AnimePostResponse;
+import academy.devdojo.service.AnimeKeysetPage;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+
+import java.util.List;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING, unmappedSourcePolicy = ReportingPolicy.IGNORE)
+public interface AnimeMapper {
+
+    @Mapping(target = "version", ignore = true)
+    Anime toAnime(AnimePostRequest request);
+
+    @Mapping(target = "version", ignore = true)
+    Anime toAnime(AnimePutRequest request);
+
+    AnimePostResponse toAnimePostResponse(Anime anime);
+
+    List<Anime> toAnimes(List<AnimePostRequest> requests);
+
+    List<Anime> toAnimesToRename(List<AnimePutRequest> requests);
+
+    List<AnimePostResponse> toAnimePostResponses(List<Anime> animes);
+
+    AnimeGetResponse toAnimeGetResponse(Anime anime);
+
+    List<AnimeGetResponse> toAnimeGetResponsesList(List<Anime> animes);
+
+    AnimeKeysetPageResponse toAnimeKeysetPageResponse(AnimeKeysetPage<Anime> page);
+
+}
@@ -0,0 +1,32 @@
+package academy.devdojo.mapper;
+
+import academy.devdojo.domain.Producer;
+import academy.devdojo.request.ProducerPostRequest;
+import academy.devdojo.request.ProducerPutRequest;
+import academy.devdojo.response.ProducerGetResponse;
+import academy.devdojo.response.ProducerPostResponse;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+
+import java.util.List;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING, unmappedSourcePolicy = ReportingPolicy.IGNORE)
+public interface ProducerMapper {
+
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    Producer toProducer(ProducerPostRequest request);
+
+    @Mapping(target = "version", ignore = true)
+    Producer toProducer(ProducerPutRequest request);
+
+    ProducerPostResponse toProducerPostResponse(Producer producer);
+
+    ProducerGetResponse toProducerGetResponse(Producer producer);
+
+    List<ProducerGetResponse> toProducerGetResponseList(List<Producer> producers);
+
+    List<Producer> toProducersToRename(List<ProducerPutRequest> requests);
+}
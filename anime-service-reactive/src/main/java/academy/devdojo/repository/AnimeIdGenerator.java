@@ -0,0 +1,77 @@
+package academy.devdojo.repository;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Hands out anime ids from the {@code id_generator} row the servlet service's pooled table generator uses, so both
+ * services can write to the same schema. Like Hibernate's pooled optimizer, the stored value is the last id of the
+ * next block: reading {@code n} reserves {@code n - 49 .. n} and stores {@code n + 50}. The reservation commits in
+ * its own transaction, so a rolled back insert never hands its ids out again.
+ */
+@Component
+public class AnimeIdGenerator {
+    static final int ALLOCATION_SIZE = 50;
+    private static final String ENTITY = "anime";
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator newTransaction;
+    private final AtomicReference<Block> block = new AtomicReference<>(new Block(1, 0));
+
+    public AnimeIdGenerator(DatabaseClient databaseClient, ReactiveTransactionManager transactionManager) {
+        this.databaseClient = databaseClient;
+        this.newTransaction = TransactionalOperator.create(transactionManager,
+                new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    public Mono<Long> nextId() {
+        return Mono.defer(() -> {
+            var id = block.get().next();
+            if (id != null) return Mono.just(id);
+
+            return allocate().map(allocated -> {
+                var first = allocated.next();
+                block.set(allocated);
+                return first;
+            });
+        });
+    }
+
+    private Mono<Block> allocate() {
+        return databaseClient.sql("select next_id from id_generator where entity = :entity for update")
+                .bind("entity", ENTITY)
+                .map(row -> row.get("next_id", Long.class))
+                .one()
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("No id_generator row for '%s'".formatted(ENTITY))))
+                .flatMap(last -> databaseClient.sql("update id_generator set next_id = :next where entity = :entity")
+                        .bind("next", last + ALLOCATION_SIZE)
+                        .bind("entity", ENTITY)
+                        .fetch()
+                        .rowsUpdated()
+                        .thenReturn(new Block(last - ALLOCATION_SIZE + 1, last)))
+                .as(newTransaction::transactional);
+    }
+
+    private static final class Block {
+        private final AtomicLong next;
+        private final long last;
+
+        private Block(long first, long last) {
+            this.next = new AtomicLong(first);
+            this.last = last;
+        }
+
+        private Long next() {
+            var id = next.getAndIncrement();
+            return id <= last ? id : null;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package academy.devdojo.repository;
+
+import academy.devdojo.domain.Anime;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface AnimeRepository extends R2dbcRepository<Anime, Long> {
+
+    Mono<Anime> findByName(String name);
+
+    Flux<Anime> findAllBy(Pageable pageable);
+
+    @Modifying
+    @Query("update anime set name = :name, version = version + 1 where id = :id and (:version is null or version = :version)")
+    Mono<Integer> updateById(Long id, Long version, String name);
+
+    @Query("select * from anime where id > :id order by id limit :limit")
+    Flux<Anime> findPageAfterId(Long id, int limit);
+
+    @Query("select * from anime where name > :name or (name = :name and id > :id) order by name, id limit :limit")
+    Flux<Anime> findPageAfterName(String name, Long id, int limit);
+
+    @Query("select * from anime order by id")
+    Flux<Anime> streamAll();
+}
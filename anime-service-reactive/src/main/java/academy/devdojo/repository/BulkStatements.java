@@ -0,0 +1,55 @@
+package academy.devdojo.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Set-based delete and rename statements keyed by id, one statement per chunk of {@value #CHUNK_SIZE} ids, like
+ * the servlet service's bulk statements. A rename bumps the version too, so a conditional update still holding the
+ * old version fails. Callers must run inside a transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class BulkStatements {
+    static final int CHUNK_SIZE = 1000;
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Integer> deleteByIds(String table, Collection<Long> ids) {
+        return Flux.fromIterable(ids)
+                .buffer(CHUNK_SIZE)
+                .concatMap(chunk -> databaseClient.sql("delete from %s where id in (:ids)".formatted(table))
+                        .bind("ids", chunk)
+                        .fetch()
+                        .rowsUpdated())
+                .reduce(0L, Long::sum)
+                .map(Long::intValue);
+    }
+
+    public Mono<Integer> renameByIds(String table, Map<Long, String> namesById) {
+        return Flux.fromIterable(namesById.entrySet())
+                .buffer(CHUNK_SIZE)
+                .concatMap(chunk -> renameChunk(table, chunk))
+                .reduce(0L, Long::sum)
+                .map(Long::intValue);
+    }
+
+    private Mono<Long> renameChunk(String table, List<Map.Entry<Long, String>> chunk) {
+        var cases = new StringBuilder();
+        for (int i = 0; i < chunk.size(); i++) cases.append(" when :id%d then :name%d".formatted(i, i));
+
+        var statement = databaseClient.sql("update %s set name = case id%s else name end, version = version + 1 where id in (:ids)"
+                .formatted(table, cases));
+        for (int i = 0; i < chunk.size(); i++) {
+            statement = statement.bind("id" + i, chunk.get(i).getKey()).bind("name" + i, chunk.get(i).getValue());
+        }
+        return statement.bind("ids", chunk.stream().map(Map.Entry::getKey).toList()).fetch().rowsUpdated();
+    }
+}
@@ -0,0 +1,22 @@
+package academy.devdojo.repository;
+
+import academy.devdojo.domain.Producer;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ProducerRepository extends R2dbcRepository<Producer, Long> {
+
+    Mono<Producer> findByName(String name);
+
+    @Modifying
+    @Query("update producer set name = :name, version = version + 1 where id = :id and (:version is null or version = :version)")
+    Mono<Integer> updateById(Long id, Long version, String name);
+
+    @Query("select * from producer order by id")
+    Flux<Producer> streamAll();
+}
@@ -0,0 +1,151 @@
+package academy.devdojo.service;
+
+import academy.devdojo.domain.Anime;
+import academy.devdojo.exception.NotFoundException;
+import academy.devdojo.exception.PreconditionFailedException;
+import academy.devdojo.repository.AnimeIdGenerator;
+import academy.devdojo.repository.AnimeRepository;
+import academy.devdojo.repository.BulkStatements;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import static academy.devdojo.util.Constants.ANIME_MODIFIED;
+import static academy.devdojo.util.Constants.ANIME_NOT_FOUND;
+
+@Service
+@RequiredArgsConstructor
+public class AnimeService {
+    private static final int MAX_KEYSET_PAGE_SIZE = 100;
+    private static final String TABLE = "anime";
+
+    private final AnimeRepository repository;
+    private final AnimeIdGenerator idGenerator;
+    private final BulkStatements bulkStatements;
+    private final R2dbcEntityTemplate template;
+
+    public Flux<Anime> findAll() {
+
+        return repository.findAll();
+
+    }
+
+    public Flux<Anime> streamAll() {
+        return repository.streamAll();
+    }
+
+    public Mono<Page<Anime>> findAll(Pageable pageable) {
+
+        return repository.findAllBy(pageable).collectList()
+                .zipWith(repository.count())
+                .map(page -> new PageImpl<>(page.getT1(), pageable, page.getT2()));
+
+    }
+
+    /**
+     * Reads one row more than the slice holds to tell whether another slice follows, without counting the table.
+     */
+    public Mono<Slice<Anime>> findSlice(Pageable pageable) {
+        var size = pageable.getPageSize();
+        var query = Query.empty().sort(pageable.getSort()).offset(pageable.getOffset()).limit(size + 1);
+
+        return template.select(query, Anime.class).collectList()
+                .map(animes -> {
+                    var hasNext = animes.size() > size;
+                    return new SliceImpl<>(hasNext ? animes.subList(0, size) : animes, pageable, hasNext);
+                });
+    }
+
+    public Mono<AnimeKeysetPage<Anime>> findAll(String cursor, AnimeCursor.SortKey sortKey, int size) {
+        return Mono.fromCallable(() -> cursor == null || cursor.isBlank() ? AnimeCursor.first(sortKey) : AnimeCursor.decode(cursor))
+                .flatMap(position -> {
+                    var pageSize = Math.max(1, Math.min(size, MAX_KEYSET_PAGE_SIZE));
+                    var animes = position.sortKey() == AnimeCursor.SortKey.NAME
+                            ? repository.findPageAfterName(position.name(), position.id(), pageSize + 1)
+                            : repository.findPageAfterId(position.id(), pageSize + 1);
+
+                    return animes.collectList().map(content -> {
+                        if (content.size() <= pageSize) return new AnimeKeysetPage<>(content, null);
+
+                        var page = content.subList(0, pageSize);
+                        var last = page.get(pageSize - 1);
+                        var next = AnimeCursor.after(position.sortKey(), last.getName(), last.getId()).encode();
+                        return new AnimeKeysetPage<>(List.copyOf(page), next);
+                    });
+                });
+    }
+
+    public Mono<Anime> findById(Long id) {
+
+        return repository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new NotFoundException(ANIME_NOT_FOUND)));
+    }
+
+    public Mono<Anime> findByName(String name) {
+        var anime = name == null ? Mono.<Anime>empty() : repository.findByName(name);
+
+        return anime.switchIfEmpty(Mono.error(() -> new NotFoundException(ANIME_NOT_FOUND)));
+    }
+
+    public Mono<Anime> save(Anime anime) {
+        return idGenerator.nextId()
+                .doOnNext(anime::setId)
+                .flatMap(id -> repository.save(anime));
+    }
+
+    @Transactional
+    public Mono<List<Anime>> saveAll(List<Anime> animes) {
+        var withIds = Flux.fromIterable(animes)
+                .concatMap(anime -> idGenerator.nextId().doOnNext(anime::setId).thenReturn(anime));
+
+        return repository.saveAll(withIds).collectList();
+    }
+
+    @Transactional
+    public Mono<Integer> deleteAllById(List<Long> ids) {
+        return bulkStatements.deleteByIds(TABLE, ids);
+    }
+
+    @Transactional
+    public Mono<Integer> renameAll(List<Anime> animes) {
+        var namesById = new LinkedHashMap<Long, String>();
+        animes.forEach(anime -> namesById.put(anime.getId(), anime.getName()));
+
+        return bulkStatements.renameByIds(TABLE, namesById);
+    }
+
+    public Mono<Void> delete(Long id) {
+
+        return findById(id).flatMap(repository::delete);
+
+    }
+
+    /**
+     * Single versioned {@code UPDATE}, the version being the one the caller read ({@code null} skips the check).
+     * Only when no row matched does a second query tell a missing anime from a stale version.
+     */
+    @Transactional
+    public Mono<Void> update(Anime animeToUpdate) {
+        var id = animeToUpdate.getId();
+
+        return repository.updateById(id, animeToUpdate.getVersion(), animeToUpdate.getName())
+                .filter(updated -> updated == 0)
+                .flatMap(unused -> repository.existsById(id))
+                .flatMap(exists -> Mono.error(exists ? new PreconditionFailedException(ANIME_MODIFIED) : new NotFoundException(ANIME_NOT_FOUND)))
+                .then();
+    }
+
+
+}
@@ -0,0 +1,85 @@
+package academy.devdojo.service;
+
+import academy.devdojo.domain.Producer;
+import academy.devdojo.exception.NotFoundException;
+import academy.devdojo.exception.PreconditionFailedException;
+import academy.devdojo.repository.BulkStatements;
+import academy.devdojo.repository.ProducerRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import static academy.devdojo.util.Constants.PRODUCER_MODIFIED;
+import static academy.devdojo.util.Constants.PRODUCER_NOT_FOUND;
+
+@Service
+@RequiredArgsConstructor
+
+public class ProducerService {
+    private static final String TABLE = "producer";
+
+    private final ProducerRepository repository;
+    private final BulkStatements bulkStatements;
+
+    public Flux<Producer> findAll() {
+        return repository.findAll();
+    }
+
+    public Flux<Producer> streamAll() {
+        return repository.streamAll();
+    }
+
+    public Mono<Producer> findById(Long id) {
+
+        return repository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new NotFoundException(PRODUCER_NOT_FOUND)));
+    }
+
+    public Mono<Producer> findByName(String name) {
+        var producer = name == null ? Mono.<Producer>empty() : repository.findByName(name);
+
+        return producer.switchIfEmpty(Mono.error(() -> new NotFoundException(PRODUCER_NOT_FOUND)));
+    }
+
+    public Mono<Producer> save(Producer producer) {
+        return repository.save(producer);
+    }
+
+    @Transactional
+    public Mono<Integer> deleteAllById(List<Long> ids) {
+        return bulkStatements.deleteByIds(TABLE, ids);
+    }
+
+    @Transactional
+    public Mono<Integer> renameAll(List<Producer> producers) {
+        var namesById = new LinkedHashMap<Long, String>();
+        producers.forEach(producer -> namesById.put(producer.getId(), producer.getName()));
+
+        return bulkStatements.renameByIds(TABLE, namesById);
+    }
+
+    public Mono<Void> delete(Long id) {
+        return findById(id).flatMap(repository::delete);
+    }
+
+    /**
+     * Single versioned {@code UPDATE}, see {@link AnimeService#update}.
+     */
+    @Transactional
+    public Mono<Void> update(Producer producerToUpdate) {
+        var id = producerToUpdate.getId();
+
+        return repository.updateById(id, producerToUpdate.getVersion(), producerToUpdate.getName())
+                .filter(updated -> updated == 0)
+                .flatMap(unused -> repository.existsById(id))
+                .flatMap(exists -> Mono.error(exists ? new PreconditionFailedException(PRODUCER_MODIFIED) : new NotFoundException(PRODUCER_NOT_FOUND)))
+                .then();
+    }
+
+
+}
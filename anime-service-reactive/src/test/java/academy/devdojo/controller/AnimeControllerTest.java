@@ -0,0 +1,211 @@
+package academy.devdojo.controller;
+
+
+import academy.devdojo.commons.AnimeUtils;
+import academy.devdojo.commons.FileUtils;
+import academy.devdojo.exception.NotFoundException;
+import academy.devdojo.exception.PreconditionFailedException;
+import academy.devdojo.mapper.AnimeMapperImpl;
+import academy.devdojo.service.AnimeCursor;
+import academy.devdojo.service.AnimeKeysetPage;
+import academy.devdojo.service.AnimeService;
+import org.junit.jupiter.api.*;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@WebFluxTest(AnimeController.class)
+@Import({AnimeMapperImpl.class, FileUtils.class, AnimeUtils.class})
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class AnimeControllerTest {
+
+    private static final String URL = "/v1/animes";
+    private static final Long ID_FOUND = 3L;
+    private static final Long ID_NOT_FOUND = 1000L;
+    private static final String ANIME_NOT_FOUND = "Anime not found";
+    private static final String ANIME_MODIFIED = "Anime was modified since it was read";
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private FileUtils fileUtils;
+
+    @Autowired
+    private AnimeUtils animeUtils;
+
+    @MockBean
+    private AnimeService service;
+
+
+    @Test
+    @DisplayName("list() Return all animes")
+    @Order(1)
+    public void list_ReturnAllAnimes_WhenSuccessful() throws Exception {
+
+        var response = fileUtils.readResourcesFile("anime/get-anime-list-all-200.json");
+
+        BDDMockito.when(service.findAll()).thenReturn(Flux.fromIterable(animeUtils.newAnimeList()));
+
+        webTestClient.get().uri(URL + "/list")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json(response);
+
+    }
+
+    @Test
+    @DisplayName("stream() writes one anime per line as NDJSON")
+    @Order(2)
+    public void stream_WritesAnimesAsNdjson_WhenSuccessful() throws Exception {
+
+        var response = fileUtils.readResourcesFile("anime/get-anime-stream-200.ndjson");
+
+        BDDMockito.when(service.streamAll()).thenReturn(Flux.fromIterable(animeUtils.newAnimeList()));
+
+        webTestClient.get().uri(URL + "/stream")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class).isEqualTo(response);
+    }
+
+    @Test
+    @DisplayName("list() Return a keyset page with the token of the next page")
+    @Order(2)
+    public void list_ReturnAnimesKeysetPage_WhenSuccessful() throws Exception {
+
+        var response = fileUtils.readResourcesFile("anime/get-anime-keyset-200.json");
+
+        var animes = animeUtils.newAnimeList().subList(0, 2);
+
+        var page = new AnimeKeysetPage<>(animes, AnimeCursor.after(AnimeCursor.SortKey.ID, animes.get(1).getName(), animes.get(1).getId()).encode());
+
+        BDDMockito.when(service.findAll(null, AnimeCursor.SortKey.ID, 2)).thenReturn(Mono.just(page));
+
+        webTestClient.get().uri(uriBuilder -> uriBuilder.path(URL + "/keyset").queryParam("size", 2).build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json(response);
+
+    }
+
+    @Test
+    @DisplayName("findById() Return anime when id exists")
+    @Order(4)
+    public void findById_ReturnAnime_WhenSuccessful() throws Exception {
+
+        var response = fileUtils.readResourcesFile("anime/get-anime-by-id-200.json");
+
+        var animeFound = animeUtils.animeFound();
+
+        animeFound.setVersion(4L);
+
+        BDDMockito.when(service.findById(ID_FOUND)).thenReturn(Mono.just(animeFound));
+
+        webTestClient.get().uri(URL + "/{id}", ID_FOUND)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"4\"")
+                .expectBody().json(response);
+    }
+
+    @Test
+    @DisplayName("findById() Return NotFound when anime id does not exists")
+    @Order(5)
+    public void findById_ReturnNotFound_WhenIdDoesNotExists() throws Exception {
+
+        var response = fileUtils.readResourcesFile("anime/anime-response-not-found-error-404.json");
+
+        BDDMockito.when(service.findById(ArgumentMatchers.any())).thenReturn(Mono.error(new NotFoundException(ANIME_NOT_FOUND)));
+
+        webTestClient.get().uri(URL + "/{id}", ID_NOT_FOUND)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody().json(response);
+
+
+    }
+
+    @Test
+    @DisplayName("save() Create a anime")
+    @Order(7)
+    public void save_CreateAnime_WhenSuccessful() throws Exception {
+
+        var response = fileUtils.readResourcesFile("anime/post-response-anime-201.json");
+
+        var request = fileUtils.readResourcesFile("anime/post-request-anime-200.json");
+
+        var animeToSave = animeUtils.newAnimeToSave();
+
+        BDDMockito.when(service.save(ArgumentMatchers.any())).thenReturn(Mono.just(animeToSave));
+
+        webTestClient.post().uri(URL + "/post")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody().json(response);
+
+    }
+
+    @Test
+    @DisplayName("update() Returns PreconditionFailed when If-Match holds a stale version")
+    @Order(8)
+    public void update_ReturnsPreconditionFailed_WhenIfMatchIsStale() throws Exception {
+
+        var request = fileUtils.readResourcesFile("anime/put-request-anime-200.json");
+
+        BDDMockito.when(service.update(ArgumentMatchers.argThat(anime -> Long.valueOf(3L).equals(anime.getVersion()))))
+                .thenReturn(Mono.error(new PreconditionFailedException(ANIME_MODIFIED)));
+
+        webTestClient.put().uri(URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isEqualTo(412);
+    }
+
+    @Test
+    @DisplayName("update() Updates NotFound when anime is not found")
+    @Order(9)
+    public void update_ReturnsNotFound_WhenNotFoundAnime() throws Exception {
+
+        var response = fileUtils.readResourcesFile("anime/anime-response-not-found-error-404.json");
+
+        var request = fileUtils.readResourcesFile("anime/put-request-anime-404.json");
+
+        BDDMockito.when(service.update(ArgumentMatchers.any())).thenReturn(Mono.error(new NotFoundException(ANIME_NOT_FOUND)));
+
+        webTestClient.put().uri(URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody().json(response);
+
+    }
+
+
+    @Test
+    @DisplayName("delete() Remove a anime")
+    @Order(10)
+    public void delete_RemovesAnime_WhenSuccessful() {
+
+        BDDMockito.when(service.delete(ID_FOUND)).thenReturn(Mono.empty());
+
+        webTestClient.delete().uri(URL + "/{id}", ID_FOUND)
+                .exchange()
+                .expectStatus().isNoContent();
+
+    }
+}
@@ -0,0 +1,130 @@
+package academy.devdojo.controller;
+
+import academy.devdojo.commons.FileUtils;
+import academy.devdojo.commons.ProducerUtils;
+import academy.devdojo.exception.NotFoundException;
+import academy.devdojo.mapper.ProducerMapperImpl;
+import academy.devdojo.service.ProducerService;
+import org.junit.jupiter.api.*;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@WebFluxTest(ProducerController.class)
+@Import({ProducerMapperImpl.class, FileUtils.class, ProducerUtils.class})
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ProducerControllerTest {
+    private static final String URL = "/v1/producers";
+    private static final Long ID_FOUND = 1L;
+    private static final String PRODUCER_NOT_FOUND = "Producer not found";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private FileUtils fileUtils;
+
+    @Autowired
+    private ProducerUtils producerUtils;
+
+    @MockBean
+    private ProducerService service;
+
+    @Test
+    @DisplayName("list() returns all producers")
+    @Order(1)
+    void list_ReturnsAllProducers_WhenSuccessful() throws Exception {
+
+        var response = fileUtils.readResourcesFile("producer/get-producer-null-name-200.json");
+
+        BDDMockito.when(service.findAll()).thenReturn(Flux.fromIterable(producerUtils.newProducerList()));
+
+        webTestClient.get().uri(URL)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json(response);
+    }
+
+    @Test
+    @DisplayName("stream() writes one producer per line as NDJSON")
+    @Order(2)
+    void stream_WritesProducersAsNdjson_WhenSuccessful() throws Exception {
+
+        var response = fileUtils.readResourcesFile("producer/get-producer-stream-200.ndjson");
+
+        BDDMockito.when(service.streamAll()).thenReturn(Flux.fromIterable(producerUtils.newProducerList()));
+
+        webTestClient.get().uri(URL + "/stream")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo(response);
+    }
+
+    @Test
+    @DisplayName("findById() Return producer when id exists")
+    @Order(3)
+    void findById_ReturnsProducer_WhenSuccessful() throws Exception {
+
+        var producerFound = producerUtils.producerFound();
+
+        producerFound.setVersion(2L);
+
+        var response = fileUtils.readResourcesFile("producer/get-producer-by-id-200.json");
+
+        BDDMockito.when(service.findById(ID_FOUND)).thenReturn(Mono.just(producerFound));
+
+        webTestClient.get().uri(URL + "/{id}", ID_FOUND)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"2\"")
+                .expectBody().json(response);
+    }
+
+    @Test
+    @DisplayName("save() creates a producer")
+    @Order(4)
+    void save_CreatesProducer_WhenSuccessful() throws Exception {
+
+        var request = fileUtils.readResourcesFile("producer/post-request-producer-200.json");
+
+        var response = fileUtils.readResourcesFile("producer/post-response-producer-201.json");
+
+        BDDMockito.when(service.save(ArgumentMatchers.any())).thenReturn(Mono.just(producerUtils.newProducerToSave()));
+
+        webTestClient.post().uri(URL + "/post")
+                .header("x-api-version", "v1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody().json(response);
+    }
+
+    @Test
+    @DisplayName("update() Updates NotFound when producer is not found")
+    @Order(5)
+    void update_ReturnsNotFound_WhenProducerIsNotFound() throws Exception {
+
+        var request = fileUtils.readResourcesFile("producer/put-request-producer-404.json");
+
+        var response = fileUtils.readResourcesFile("producer/producer-response-not-found-error-404.json");
+
+        BDDMockito.when(service.update(ArgumentMatchers.any())).thenReturn(Mono.error(new NotFoundException(PRODUCER_NOT_FOUND)));
+
+        webTestClient.put().uri(URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody().json(response);
+    }
+}
@@ -0,0 +1,161 @@
+package academy.devdojo.service;
+
+import academy.devdojo.commons.AnimeUtils;
+import academy.devdojo.domain.Anime;
+import academy.devdojo.exception.InvalidCursorException;
+import academy.devdojo.exception.NotFoundException;
+import academy.devdojo.exception.PreconditionFailedException;
+import academy.devdojo.repository.AnimeIdGenerator;
+import academy.devdojo.repository.AnimeRepository;
+import academy.devdojo.repository.BulkStatements;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class AnimeServiceTest {
+    private static final Long ID_FOUND = 3L;
+    private List<Anime> animes;
+    @InjectMocks
+    private AnimeService service;
+    @InjectMocks
+    private AnimeUtils animeUtils;
+    @Mock
+    private AnimeRepository repository;
+    @Mock
+    private AnimeIdGenerator idGenerator;
+    @Mock
+    private BulkStatements bulkStatements;
+    @Mock
+    private R2dbcEntityTemplate template;
+
+    @BeforeEach
+    void init() {
+
+        animes = animeUtils.newAnimeList();
+
+    }
+
+    @Test
+    @DisplayName("findAll() Return a keyset page with the token of the next page when more animes follow")
+    @Order(1)
+    void findAll_ReturnsKeysetPageWithNext_WhenMoreAnimesFollow() {
+
+        BDDMockito.when(repository.findPageAfterId(0L, 3)).thenReturn(Flux.fromIterable(animes.subList(0, 3)));
+
+        StepVerifier.create(service.findAll(null, AnimeCursor.SortKey.ID, 2))
+                .assertNext(page -> {
+                    Assertions.assertThat(page.content()).containsExactlyElementsOf(animes.subList(0, 2));
+                    Assertions.assertThat(AnimeCursor.decode(page.next())).isEqualTo(new AnimeCursor(AnimeCursor.SortKey.ID, "", 2L));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("findAll() Signals InvalidCursorException when the cursor cannot be decoded")
+    @Order(2)
+    void findAll_SignalsInvalidCursorException_WhenCursorIsInvalid() {
+
+        StepVerifier.create(service.findAll("not-a-cursor", AnimeCursor.SortKey.ID, 2))
+                .expectError(InvalidCursorException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("findById() Return anime when id exists")
+    @Order(3)
+    void findById_ReturnsAnime_WhenSuccessful() {
+
+        var animeExpected = animeUtils.animeFound();
+
+        BDDMockito.when(repository.findById(ID_FOUND)).thenReturn(Mono.just(animeExpected));
+
+        StepVerifier.create(service.findById(ID_FOUND))
+                .expectNext(animeExpected)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("findById() Signals NotFoundException when anime is not found")
+    @Order(4)
+    void findById_SignalsNotFoundException_WhenAnimeIsNotFound() {
+
+        BDDMockito.when(repository.findById(ID_FOUND)).thenReturn(Mono.empty());
+
+        StepVerifier.create(service.findById(ID_FOUND))
+                .expectError(NotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("save() Creates an anime with an id from the generator")
+    @Order(5)
+    void save_CreatesAnimeWithGeneratedId_WhenSuccessful() {
+
+        var animeToSave = Anime.builder().name("DeathNote").build();
+
+        BDDMockito.when(idGenerator.nextId()).thenReturn(Mono.just(99L));
+        BDDMockito.when(repository.save(animeToSave)).thenReturn(Mono.just(animeToSave));
+
+        StepVerifier.create(service.save(animeToSave))
+                .assertNext(anime -> Assertions.assertThat(anime.getId()).isEqualTo(99L))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("update() Updates an anime with a single statement")
+    @Order(6)
+    void update_UpdatesAnime_WhenSuccessful() {
+
+        var animeToUpdate = animes.get(0);
+
+        BDDMockito.when(repository.updateById(animeToUpdate.getId(), animeToUpdate.getVersion(), animeToUpdate.getName())).thenReturn(Mono.just(1));
+
+        StepVerifier.create(service.update(animeToUpdate)).verifyComplete();
+
+        BDDMockito.verify(repository, BDDMockito.never()).existsById(ArgumentMatchers.anyLong());
+    }
+
+    @Test
+    @DisplayName("update() Signals PreconditionFailedException when the version is stale")
+    @Order(7)
+    void update_SignalsPreconditionFailedException_WhenVersionIsStale() {
+
+        var animeToUpdate = animes.get(0);
+        animeToUpdate.setVersion(3L);
+
+        BDDMockito.when(repository.updateById(animeToUpdate.getId(), 3L, animeToUpdate.getName())).thenReturn(Mono.just(0));
+        BDDMockito.when(repository.existsById(animeToUpdate.getId())).thenReturn(Mono.just(true));
+
+        StepVerifier.create(service.update(animeToUpdate))
+                .expectError(PreconditionFailedException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("update() Signals NotFoundException when anime is not found")
+    @Order(8)
+    void update_SignalsNotFoundException_WhenAnimeIsNotFound() {
+
+        var animeToUpdate = animes.get(0);
+
+        BDDMockito.when(repository.updateById(animeToUpdate.getId(), animeToUpdate.getVersion(), animeToUpdate.getName())).thenReturn(Mono.just(0));
+        BDDMockito.when(repository.existsById(animeToUpdate.getId())).thenReturn(Mono.just(false));
+
+        StepVerifier.create(service.update(animeToUpdate))
+                .expectError(NotFoundException.class)
+                .verify();
+    }
+}
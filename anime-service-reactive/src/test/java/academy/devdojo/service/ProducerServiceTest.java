@@ -0,0 +1,57 @@
+package academy.devdojo.service;
+
+import academy.devdojo.commons.ProducerUtils;
+import academy.devdojo.exception.NotFoundException;
+import academy.devdojo.exception.PreconditionFailedException;
+import academy.devdojo.repository.BulkStatements;
+import academy.devdojo.repository.ProducerRepository;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ProducerServiceTest {
+    @InjectMocks
+    private ProducerService service;
+    @InjectMocks
+    private ProducerUtils producerUtils;
+    @Mock
+    private ProducerRepository repository;
+    @Mock
+    private BulkStatements bulkStatements;
+
+    @Test
+    @DisplayName("findByName() Signals NotFoundException without querying when name is null")
+    @Order(1)
+    void findByName_SignalsNotFoundException_WhenNameIsNull() {
+
+        StepVerifier.create(service.findByName(null))
+                .expectError(NotFoundException.class)
+                .verify();
+
+        BDDMockito.verify(repository, BDDMockito.never()).findByName(ArgumentMatchers.any());
+    }
+
+    @Test
+    @DisplayName("update() Signals PreconditionFailedException when the version is stale")
+    @Order(2)
+    void update_SignalsPreconditionFailedException_WhenVersionIsStale() {
+
+        var producerToUpdate = producerUtils.producerFound();
+        producerToUpdate.setVersion(2L);
+
+        BDDMockito.when(repository.updateById(producerToUpdate.getId(), 2L, producerToUpdate.getName())).thenReturn(Mono.just(0));
+        BDDMockito.when(repository.existsById(producerToUpdate.getId())).thenReturn(Mono.just(true));
+
+        StepVerifier.create(service.update(producerToUpdate))
+                .expectError(PreconditionFailedException.class)
+                .verify();
+    }
+}
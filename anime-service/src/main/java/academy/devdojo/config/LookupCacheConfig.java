@@ -0,0 +1,29 @@
+package academy.devdojo.config;
+
+import academy.devdojo.cache.LookupCache;
+import academy.devdojo.response.AnimeGetResponse;
+import academy.devdojo.response.ProducerGetResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class LookupCacheConfig {
+
+    @Value("${anime-service.cache.maximum-size:10000}")
+    private long maximumSize;
+    @Value("${anime-service.cache.time-to-live:10m}")
+    private Duration timeToLive;
+
+    @Bean
+    public LookupCache<AnimeGetResponse> animeLookupCache() {
+        return new LookupCache<>("animes", maximumSize, timeToLive, AnimeGetResponse::getId);
+    }
+
+    @Bean
+    public LookupCache<ProducerGetResponse> producerLookupCache() {
+        return new LookupCache<>("producers", maximumSize, timeToLive, ProducerGetResponse::getId);
+    }
+}
@@ -1,20 +1,31 @@
 package academy.devdojo.controller;
 
+import academy.devdojo.http.EntityTags;
 import academy.devdojo.mapper.AnimeMapper;
+import academy.devdojo.request.AnimeBatchPostRequest;
+import academy.devdojo.request.AnimeBulkRenameRequest;
 import academy.devdojo.request.AnimePostRequest;
 import academy.devdojo.request.AnimePutRequest;
+import academy.devdojo.request.BulkDeleteRequest;
 import academy.devdojo.response.AnimeGetResponse;
+import academy.devdojo.response.AnimeKeysetPageResponse;
 import academy.devdojo.response.AnimePostResponse;
+import academy.devdojo.response.BulkOperationResponse;
+import academy.devdojo.service.AnimeCursor;
 import academy.devdojo.service.AnimeService;
+import academy.devdojo.stream.NdjsonWriter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springdoc.core.annotations.ParameterObject;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -28,46 +39,67 @@ public class AnimeController {
 
     private final AnimeService animeService;
 
+    private final NdjsonWriter ndjsonWriter;
+
     @GetMapping("list")
     public ResponseEntity<List<AnimeGetResponse>> list() {
 
         log.info("Request received to list all animes");
 
-        var animes = animeService.findAll();
-
-        var animesGetResponses = mapper.toAnimeGetResponsesList(animes);
+        var animesGetResponses = animeService.findAllProjected();
 
         return ResponseEntity.ok(animesGetResponses);
     }
 
+    @GetMapping(value = "stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> stream() {
+
+        log.info("Request received to stream all animes");
+
+        StreamingResponseBody body = out -> animeService.forEach(anime -> ndjsonWriter.write(out, mapper.toAnimeGetResponse(anime)));
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @GetMapping("paginated")
-    public ResponseEntity<Page<AnimeGetResponse>> list(@ParameterObject Pageable pageable) {
+    public ResponseEntity<Slice<AnimeGetResponse>> list(@ParameterObject Pageable pageable,
+                                                        @RequestParam(defaultValue = "true") boolean withTotal) {
 
-        log.info("Request received to list all animes");
+        log.info("Request received to list all animes, with total '{}'", withTotal);
 
-        var pageAnimeGetResponse = animeService.findAll(pageable).map(mapper::toAnimeGetResponse);
+        var animes = withTotal ? animeService.findAll(pageable) : animeService.findSlice(pageable);
+
+        var pageAnimeGetResponse = animes.map(mapper::toAnimeGetResponse);
 
         return ResponseEntity.ok(pageAnimeGetResponse);
 
     }
 
+    @GetMapping("keyset")
+    public ResponseEntity<AnimeKeysetPageResponse> list(@RequestParam(required = false) String cursor,
+                                                        @RequestParam(defaultValue = "ID") AnimeCursor.SortKey sort,
+                                                        @RequestParam(defaultValue = "20") int size) {
+
+        log.info("Request received to list animes after cursor '{}'", cursor);
+
+        var page = animeService.findAll(cursor, sort, size);
+
+        return ResponseEntity.ok(mapper.toAnimeKeysetPageResponse(page));
+    }
+
     @GetMapping("{id}")
     public ResponseEntity<AnimeGetResponse> findById(@PathVariable Long id) {
         log.info("Request received find anime by id '{}'", id);
-        var animeFound = animeService.findById(id);
+        var response = animeService.findProjectedById(id);
 
-        var response = mapper.toAnimeGetResponse(animeFound);
-
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(EntityTags.of(response.getVersion())).body(response);
     }
 
     @GetMapping("filter")
     public ResponseEntity<AnimeGetResponse> findByName(@RequestParam(required = false) String name) {
         log.info("Request received to list all animes, param name '{}'", name);
 
-        var animeFound = animeService.findByName(name);
-
-        var animeGetResponses = mapper.toAnimeGetResponse(animeFound);
+        var animeGetResponses = animeService.findProjectedByName(name);
 
         return ResponseEntity.ok(animeGetResponses);
     }
@@ -86,6 +118,36 @@ public class AnimeController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("batch")
+    public ResponseEntity<List<AnimePostResponse>> saveAll(@RequestBody @Valid AnimeBatchPostRequest request) {
+
+        log.info("Request received to save '{}' animes in batch", request.getAnimes().size());
+
+        var animes = animeService.saveAll(mapper.toAnimes(request.getAnimes()));
+
+        var response = mapper.toAnimePostResponses(animes);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @PostMapping("bulk/delete")
+    public ResponseEntity<BulkOperationResponse> deleteAll(@RequestBody @Valid BulkDeleteRequest request) {
+        log.info("Request received to delete '{}' animes by id", request.getIds().size());
+
+        var affected = animeService.deleteAllById(request.getIds());
+
+        return ResponseEntity.ok(BulkOperationResponse.builder().affected(affected).build());
+    }
+
+    @PostMapping("bulk/rename")
+    public ResponseEntity<BulkOperationResponse> renameAll(@RequestBody @Valid AnimeBulkRenameRequest request) {
+        log.info("Request received to rename '{}' animes", request.getAnimes().size());
+
+        var affected = animeService.renameAll(mapper.toAnimesToRename(request.getAnimes()));
+
+        return ResponseEntity.ok(BulkOperationResponse.builder().affected(affected).build());
+    }
+
     @DeleteMapping("{id}")
     public ResponseEntity<Void> delete(@PathVariable Long id) {
         log.info("Request received to delete the anime by id'{}'", id);
@@ -96,10 +158,12 @@ public class AnimeController {
     }
 
     @PutMapping
-    public ResponseEntity<Void> update(@RequestBody @Valid AnimePutRequest request) {
+    public ResponseEntity<Void> update(@RequestBody @Valid AnimePutRequest request,
+                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Request received to delete the anime by id'{}'", request);
 
         var animeToUpdate = mapper.toAnime(request);
+        animeToUpdate.setVersion(EntityTags.expectedVersion(ifMatch));
 
         animeService.update(animeToUpdate);
 
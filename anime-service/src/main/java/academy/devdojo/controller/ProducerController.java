@@ -1,18 +1,25 @@
 package academy.devdojo.controller;
 
+import academy.devdojo.http.EntityTags;
 import academy.devdojo.mapper.ProducerMapper;
+import academy.devdojo.request.BulkDeleteRequest;
+import academy.devdojo.request.ProducerBulkRenameRequest;
 import academy.devdojo.request.ProducerPostRequest;
 import academy.devdojo.request.ProducerPutRequest;
+import academy.devdojo.response.BulkOperationResponse;
 import academy.devdojo.response.ProducerGetResponse;
 import academy.devdojo.response.ProducerPostResponse;
 import academy.devdojo.service.ProducerService;
+import academy.devdojo.stream.NdjsonWriter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -25,27 +32,33 @@ public class ProducerController {
 
     private final ProducerMapper mapper;
     private final ProducerService producerService;
+    private final NdjsonWriter ndjsonWriter;
 
     @GetMapping
     public ResponseEntity<List<ProducerGetResponse>> list() {
         log.info("Request received to list all producers");
 
-        var producers = producerService.findAll();
-
-        var producersGetResponses = mapper.toProducerGetResponseList(producers);
+        var producersGetResponses = producerService.findAllProjected();
 
         return ResponseEntity.ok(producersGetResponses);
     }
 
+    @GetMapping(value = "stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> stream() {
+        log.info("Request received to stream all producers");
+
+        StreamingResponseBody body = out -> producerService.forEach(producer -> ndjsonWriter.write(out, mapper.toProducerGetResponse(producer)));
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @GetMapping("{id}")
     public ResponseEntity<ProducerGetResponse> findById(@PathVariable Long id) {
         log.info("Request received find producer by id '{}'", id);
 
-        var producerFound = producerService.findById(id);
-
-        var response = mapper.toProducerGetResponse(producerFound);
+        var response = producerService.findProjectedById(id);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(EntityTags.of(response.getVersion())).body(response);
     }
 
 
@@ -53,9 +66,7 @@ public class ProducerController {
     public ResponseEntity<ProducerGetResponse> findByName(@RequestParam(required = false) String name) {
         log.info("Request received to list all producers, param name '{}'", name);
 
-        var producerFound = producerService.findByName(name);
-
-        var producerGetResponse = mapper.toProducerGetResponse(producerFound);
+        var producerGetResponse = producerService.findProjectedByName(name);
 
         return ResponseEntity.ok(producerGetResponse);
     }
@@ -73,6 +84,24 @@ public class ProducerController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("bulk/delete")
+    public ResponseEntity<BulkOperationResponse> deleteAll(@RequestBody @Valid BulkDeleteRequest request) {
+        log.info("Request received to delete '{}' producers by id", request.getIds().size());
+
+        var affected = producerService.deleteAllById(request.getIds());
+
+        return ResponseEntity.ok(BulkOperationResponse.builder().affected(affected).build());
+    }
+
+    @PostMapping("bulk/rename")
+    public ResponseEntity<BulkOperationResponse> renameAll(@RequestBody @Valid ProducerBulkRenameRequest request) {
+        log.info("Request received to rename '{}' producers", request.getProducers().size());
+
+        var affected = producerService.renameAll(mapper.toProducersToRename(request.getProducers()));
+
+        return ResponseEntity.ok(BulkOperationResponse.builder().affected(affected).build());
+    }
+
     @DeleteMapping("{id}")
     public ResponseEntity<Void> deleteById(@PathVariable Long id) {
         log.info("Request received to delete the producer by id '{}'", id);
@@ -83,11 +112,13 @@ public class ProducerController {
     }
 
     @PutMapping
-    public ResponseEntity<Void> update(@RequestBody @Valid ProducerPutRequest request) {
+    public ResponseEntity<Void> update(@RequestBody @Valid ProducerPutRequest request,
+                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
         log.info("Request received to delete the producer by id'{}'", request);
 
         var producerToUpdate = mapper.toProducer(request);
+        producerToUpdate.setVersion(EntityTags.expectedVersion(ifMatch));
 
         producerService.update(producerToUpdate);
 
@@ -16,10 +16,14 @@ import lombok.*;
 public class Anime {
     @EqualsAndHashCode.Include
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "anime_id")
+    @TableGenerator(name = "anime_id", table = "id_generator", pkColumnName = "entity", valueColumnName = "next_id",
+            pkColumnValue = "anime", allocationSize = 50)
     private Long id;
     @Column(nullable = false)
     @JsonProperty(value = "full_name")
     private String name;
+    @Version
+    private Long version;
 
 }
@@ -2,6 +2,8 @@ package academy.devdojo.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.SourceType;
 
@@ -13,6 +15,8 @@ import java.time.LocalDateTime;
 @ToString
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @AllArgsConstructor
 @NoArgsConstructor
 public class Producer {
@@ -26,6 +30,8 @@ public class Producer {
     @Column(nullable = false, insertable = false, updatable = false)
     @CreationTimestamp(source = SourceType.DB)
     private LocalDateTime createdAt;
+    @Version
+    private Long version;
 
 
 }
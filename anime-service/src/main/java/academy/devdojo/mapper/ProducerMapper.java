@@ -15,9 +15,11 @@ import java.util.List;
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING, unmappedSourcePolicy = ReportingPolicy.IGNORE)
 public interface ProducerMapper {
 
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "createdAt", expression = "java(java.time.LocalDateTime.now())")
     Producer toProducer(ProducerPostRequest request);
 
+    @Mapping(target = "version", ignore = true)
     Producer toProducer(ProducerPutRequest request);
 
     ProducerPostResponse toProducerPostResponse(Producer producer);
@@ -25,4 +27,6 @@ public interface ProducerMapper {
     ProducerGetResponse toProducerGetResponse(Producer producer);
 
     List<ProducerGetResponse> toProducerGetResponseList(List<Producer> producers);
+
+    List<Producer> toProducersToRename(List<ProducerPutRequest> requests);
 }
@@ -1,22 +1,65 @@
 package academy.devdojo.repository;
 
 import academy.devdojo.domain.Anime;
+import academy.devdojo.store.EntityStore;
+import academy.devdojo.store.InMemoryStore;
+import academy.devdojo.store.MappedJournal;
+import academy.devdojo.store.ShardedInMemoryStore;
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.stream.Stream;
 
 @Component
 @Getter
 public class AnimeData {
-    private final List<Anime> animes = new ArrayList<>();
+    static final String NAME_INDEX = "name";
+
+    private final EntityStore<Anime> animes;
+    @Getter(AccessLevel.NONE)
+    private final MappedJournal<Anime> journal;
+
+    public AnimeData(@Value("${anime-service.in-memory.journal-directory:}") String journalDirectory,
+                     @Value("${anime-service.in-memory.shards:1}") int shards) {
+        if (shards > 1 && !journalDirectory.isBlank()) {
+            throw new IllegalStateException("The in-memory journal cannot be combined with sharded stores");
+        }
+        this.journal = journalDirectory.isBlank() ? null : new MappedJournal<>(Path.of(journalDirectory, "animes"), new AnimeRecordCodec());
+        this.animes = shards > 1 ? newShardedAnimeStore(shards) : journaled(newAnimeStore());
+        if (!animes.findAll().isEmpty()) return;
 
-    {
         var anime1 = Anime.builder().id(1L).name("Naruto").build();
         var anime2 = Anime.builder().id(2L).name("Dragon Ball").build();
         var anime3 = Anime.builder().id(3L).name("One Piece").build();
         var anime4 = Anime.builder().id(4L).name("Pokemon").build();
-        animes.addAll(List.of(anime1, anime2, anime3, anime4));
+        Stream.of(anime1, anime2, anime3, anime4).forEach(animes::save);
+    }
+
+    @PreDestroy
+    void closeJournal() {
+        if (journal != null) journal.close();
+    }
+
+    private InMemoryStore<Anime> journaled(InMemoryStore<Anime> store) {
+        return journal == null ? store : store.journaledTo(journal);
+    }
+
+    static ShardedInMemoryStore<Anime> newShardedAnimeStore(int shards) {
+        return new ShardedInMemoryStore<>(shards, Anime::getId, AnimeData::newAnimeStore).generatingIds(Anime::setId);
+    }
+
+    static InMemoryStore<Anime> newAnimeStore() {
+        return new InMemoryStore<>(Anime::getId)
+                .indexedBy(NAME_INDEX, anime -> nameKey(anime.getName()))
+                .generatingIds(Anime::setId);
+    }
+
+    static String nameKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
     }
 }
@@ -16,29 +16,35 @@ public class AnimeHardCodedRepository {
     private final AnimeData animeData;
 
     public List<Anime> findAll() {
-        return animeData.getAnimes();
+        return animeData.getAnimes().findAll();
     }
 
     public Optional<Anime> findById(Long id) {
-        return animeData.getAnimes().stream().filter(anime -> anime.getId().equals(id)).findFirst();
+        return animeData.getAnimes().findById(id);
     }
 
     public List<Anime> findByName(String name) {
-        return name == null ? animeData.getAnimes() :
-                animeData.getAnimes().stream().filter(anime -> anime.getName().equalsIgnoreCase(name)).toList();
+        return name == null ? findAll() :
+                animeData.getAnimes().findBy(AnimeData.NAME_INDEX, AnimeData.nameKey(name));
     }
 
     public Anime save(Anime anime) {
-        animeData.getAnimes().add(anime);
-        return anime;
+        return animeData.getAnimes().save(anime);
     }
 
     public void delete(Anime anime) {
-        animeData.getAnimes().remove(anime);
+        animeData.getAnimes().deleteById(anime.getId());
     }
 
-    public void update(Anime anime) {
-        save(anime);
-        delete(anime);
+    public boolean update(Anime anime) {
+        return animeData.getAnimes().replace(anime);
+    }
+
+    public boolean update(Anime anime, long expectedVersion) {
+        return animeData.getAnimes().replace(anime, expectedVersion);
+    }
+
+    public long findVersionById(Long id) {
+        return animeData.getAnimes().versionOf(id);
     }
 }
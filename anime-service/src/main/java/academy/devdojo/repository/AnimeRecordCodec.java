@@ -0,0 +1,22 @@
+package academy.devdojo.repository;
+
+import academy.devdojo.domain.Anime;
+import academy.devdojo.store.RecordCodec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+public class AnimeRecordCodec implements RecordCodec<Anime> {
+
+    @Override
+    public void write(Anime anime, DataOutput output) throws IOException {
+        output.writeLong(anime.getId());
+        RecordCodec.writeString(output, anime.getName());
+    }
+
+    @Override
+    public Anime read(DataInput input) throws IOException {
+        return Anime.builder().id(input.readLong()).name(RecordCodec.readString(input)).build();
+    }
+}
@@ -1,13 +1,50 @@
 package academy.devdojo.repository;
 
 import academy.devdojo.domain.Anime;
+import academy.devdojo.response.AnimeGetResponse;
+import academy.devdojo.stream.NdjsonWriter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface AnimeRepository extends JpaRepository<Anime, Long> {
 
     Optional<Anime> findByName(String name);
+
+    Slice<Anime> findAllBy(Pageable pageable);
+
+    @Modifying
+    @Query("update Anime a set a.name = :name, a.version = a.version + 1 where a.id = :id and (:version is null or a.version = :version)")
+    int updateById(Long id, Long version, String name);
+
+    @Query("select a from Anime a where a.id > :id order by a.id")
+    List<Anime> findPageAfterId(Long id, Pageable pageable);
+
+    @Query("select a from Anime a where a.name > :name or (a.name = :name and a.id > :id) order by a.name, a.id")
+    List<Anime> findPageAfterName(String name, Long id, Pageable pageable);
+
+    @Query("select a from Anime a order by a.id")
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = NdjsonWriter.MYSQL_STREAMING_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    Stream<Anime> streamAll();
+
+    @Query("select new academy.devdojo.response.AnimeGetResponse(a.id, a.name, a.version) from Anime a")
+    List<AnimeGetResponse> findAllProjectedBy();
+
+    @Query("select new academy.devdojo.response.AnimeGetResponse(a.id, a.name, a.version) from Anime a where a.id = :id")
+    Optional<AnimeGetResponse> findProjectedById(Long id);
+
+    @Query("select new academy.devdojo.response.AnimeGetResponse(a.id, a.name, a.version) from Anime a where a.name = :name")
+    Optional<AnimeGetResponse> findProjectedByName(String name);
 }
@@ -0,0 +1,275 @@
+package academy.devdojo.repository;
+
+import academy.devdojo.domain.Producer;
+import academy.devdojo.store.RecordStorage;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Keeps producers outside the Java heap.
+ * <p>
+ * Every producer takes one fixed 32 byte slot in a direct buffer (id, createdAt seconds and nanos, name offset and
+ * length); names are UTF-8 encoded into a second direct buffer used as an append-only arena that is compacted once
+ * half of it is garbage. {@link Producer} instances only exist while a read is being served. The id → slot lookup is an
+ * {@code int[]} open-addressing table holding {@code slot + 1} (zero is a free entry) whose keys are the ids already
+ * stored in the records, so the heap carries about six bytes per producer and no objects.
+ */
+public class OffHeapProducerStorage implements RecordStorage<Producer> {
+
+    private static final int RECORD_SIZE = 32;
+    private static final int ID = 0;
+    private static final int EPOCH_SECOND = 8;
+    private static final int NANO = 16;
+    private static final int NAME_OFFSET = 20;
+    private static final int NAME_LENGTH = 24;
+    private static final int ABSENT = -1;
+    private static final int AVERAGE_NAME_BYTES = 16;
+    private static final float LOAD_FACTOR = 0.7f;
+
+    private int[] slotsById;
+    private int size;
+    private ByteBuffer records;
+    private ByteBuffer names;
+    private int[] freeSlots = new int[16];
+    private int freeSlotCount;
+    private int nextSlot;
+    private int namesEnd;
+    private int garbageNameBytes;
+
+    public OffHeapProducerStorage() {
+        this(1_024);
+    }
+
+    public OffHeapProducerStorage(int expectedSize) {
+        var capacity = Math.max(expectedSize, 16);
+        this.slotsById = new int[Integer.highestOneBit((int) (capacity / LOAD_FACTOR)) << 1];
+        this.records = ByteBuffer.allocateDirect(capacity * RECORD_SIZE);
+        this.names = ByteBuffer.allocateDirect(capacity * AVERAGE_NAME_BYTES);
+    }
+
+    @Override
+    public Producer get(long id) {
+        var slot = slotOf(id);
+        return slot == ABSENT ? null : read(slot);
+    }
+
+    @Override
+    public Producer put(long id, Producer producer) {
+        var slot = slotOf(id);
+        var previous = slot == ABSENT ? null : read(slot);
+
+        var name = producer.getName() == null ? null : producer.getName().getBytes(StandardCharsets.UTF_8);
+        var nameOffset = name == null ? ABSENT : appendName(name);
+
+        var inserted = slot == ABSENT;
+        if (inserted) {
+            slot = allocateSlot();
+        } else {
+            releaseName(slot);
+        }
+
+        var base = slot * RECORD_SIZE;
+        records.putLong(base + ID, id);
+        var createdAt = producer.getCreatedAt();
+        records.putLong(base + EPOCH_SECOND, createdAt == null ? 0 : createdAt.toEpochSecond(ZoneOffset.UTC));
+        records.putInt(base + NANO, createdAt == null ? ABSENT : createdAt.getNano());
+        records.putInt(base + NAME_OFFSET, nameOffset);
+        records.putInt(base + NAME_LENGTH, name == null ? ABSENT : name.length);
+        if (inserted) addSlot(id, slot);
+        return previous;
+    }
+
+    @Override
+    public Producer remove(long id) {
+        var slot = removeSlot(id);
+        if (slot == ABSENT) return null;
+
+        var previous = read(slot);
+        releaseName(slot);
+        if (freeSlotCount == freeSlots.length) freeSlots = Arrays.copyOf(freeSlots, freeSlots.length << 1);
+        freeSlots[freeSlotCount++] = slot;
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void forEachValue(Consumer<? super Producer> action) {
+        forEachSlot(slot -> action.accept(read(slot)));
+    }
+
+    @Override
+    public boolean retainsValues() {
+        return false;
+    }
+
+    public long offHeapBytes() {
+        return (long) records.capacity() + names.capacity();
+    }
+
+    private int slotOf(long id) {
+        var table = slotsById;
+        var recordBuffer = records;
+        var mask = table.length - 1;
+        var index = index(id, mask);
+
+        for (int probes = 0; probes <= mask; probes++) {
+            var entry = table[index];
+            if (entry == 0) return ABSENT;
+            if (recordBuffer.getLong((entry - 1) * RECORD_SIZE + ID) == id) return entry - 1;
+            index = (index + 1) & mask;
+        }
+        return ABSENT;
+    }
+
+    private void addSlot(long id, int slot) {
+        var mask = slotsById.length - 1;
+        var index = index(id, mask);
+        while (slotsById[index] != 0) index = (index + 1) & mask;
+        slotsById[index] = slot + 1;
+        if (++size >= slotsById.length * LOAD_FACTOR) resizeSlots(slotsById.length << 1);
+    }
+
+    private int removeSlot(long id) {
+        var table = slotsById;
+        var mask = table.length - 1;
+        var index = index(id, mask);
+
+        while (table[index] != 0) {
+            var slot = table[index] - 1;
+            if (idAt(slot) == id) {
+                table[index] = 0;
+                size--;
+                shiftBack(table, index, mask);
+                return slot;
+            }
+            index = (index + 1) & mask;
+        }
+        return ABSENT;
+    }
+
+    private void shiftBack(int[] table, int hole, int mask) {
+        var next = (hole + 1) & mask;
+        while (table[next] != 0) {
+            var ideal = index(idAt(table[next] - 1), mask);
+            if (((next - ideal) & mask) >= ((next - hole) & mask)) {
+                table[hole] = table[next];
+                table[next] = 0;
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+    }
+
+    private void resizeSlots(int capacity) {
+        var resized = new int[capacity];
+        var mask = capacity - 1;
+        forEachSlot(slot -> {
+            var index = index(idAt(slot), mask);
+            while (resized[index] != 0) index = (index + 1) & mask;
+            resized[index] = slot + 1;
+        });
+        slotsById = resized;
+    }
+
+    private void forEachSlot(IntConsumer action) {
+        for (var entry : slotsById) {
+            if (entry != 0) action.accept(entry - 1);
+        }
+    }
+
+    private long idAt(int slot) {
+        return records.getLong(slot * RECORD_SIZE + ID);
+    }
+
+    private static int index(long id, int mask) {
+        var hash = id * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private Producer read(int slot) {
+        var recordBuffer = records;
+        var nameBuffer = names;
+        var base = slot * RECORD_SIZE;
+
+        var nano = recordBuffer.getInt(base + NANO);
+        var createdAt = nano == ABSENT ? null :
+                LocalDateTime.ofEpochSecond(recordBuffer.getLong(base + EPOCH_SECOND), nano, ZoneOffset.UTC);
+
+        var nameLength = recordBuffer.getInt(base + NAME_LENGTH);
+        String name = null;
+        if (nameLength != ABSENT) {
+            var nameOffset = recordBuffer.getInt(base + NAME_OFFSET);
+            if (nameLength < 0 || nameOffset < 0 || nameOffset > nameBuffer.capacity() - nameLength) {
+                throw new IllegalStateException("Corrupted producer record at slot %d".formatted(slot));
+            }
+            var bytes = new byte[nameLength];
+            nameBuffer.get(nameOffset, bytes);
+            name = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        return Producer.builder().id(recordBuffer.getLong(base + ID)).name(name).createdAt(createdAt).build();
+    }
+
+    private int allocateSlot() {
+        if (freeSlotCount > 0) return freeSlots[--freeSlotCount];
+
+        if ((nextSlot + 1) * RECORD_SIZE > records.capacity()) {
+            records = copyOf(records, records.capacity(), records.capacity() << 1);
+        }
+        return nextSlot++;
+    }
+
+    private int appendName(byte[] name) {
+        if (namesEnd + name.length > names.capacity()) {
+            if (garbageNameBytes > namesEnd / 2) compactNames(name.length);
+            if (namesEnd + name.length > names.capacity()) {
+                names = copyOf(names, namesEnd, Math.max(names.capacity() << 1, namesEnd + name.length));
+            }
+        }
+
+        var offset = namesEnd;
+        names.put(offset, name);
+        namesEnd += name.length;
+        return offset;
+    }
+
+    private void releaseName(int slot) {
+        var nameLength = records.getInt(slot * RECORD_SIZE + NAME_LENGTH);
+        if (nameLength != ABSENT) garbageNameBytes += nameLength;
+    }
+
+    private void compactNames(int extraBytes) {
+        var liveBytes = namesEnd - garbageNameBytes;
+        var compacted = ByteBuffer.allocateDirect(Math.max(names.capacity(), (liveBytes + extraBytes) << 1));
+        var end = new int[1];
+
+        forEachSlot(slot -> {
+            var base = slot * RECORD_SIZE;
+            var nameLength = records.getInt(base + NAME_LENGTH);
+            if (nameLength == ABSENT) return;
+            compacted.put(end[0], names, records.getInt(base + NAME_OFFSET), nameLength);
+            records.putInt(base + NAME_OFFSET, end[0]);
+            end[0] += nameLength;
+        });
+
+        names = compacted;
+        namesEnd = end[0];
+        garbageNameBytes = 0;
+    }
+
+    private static ByteBuffer copyOf(ByteBuffer source, int length, int capacity) {
+        var copy = ByteBuffer.allocateDirect(capacity);
+        copy.put(0, source, 0, length);
+        return copy;
+    }
+}
@@ -1,23 +1,74 @@
 package academy.devdojo.repository;
 
 import academy.devdojo.domain.Producer;
+import academy.devdojo.store.EntityStore;
+import academy.devdojo.store.InMemoryStore;
+import academy.devdojo.store.MappedJournal;
+import academy.devdojo.store.ShardedInMemoryStore;
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.file.Path;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 @Getter
 @Component
 public class ProducerData {
-    private final List<Producer> producers = new ArrayList<>();
+    static final String NAME_INDEX = "name";
+
+    private final EntityStore<Producer> producers;
+    @Getter(AccessLevel.NONE)
+    private final MappedJournal<Producer> journal;
+
+    public ProducerData(@Value("${anime-service.producer-data.off-heap:false}") boolean offHeap,
+                        @Value("${anime-service.in-memory.journal-directory:}") String journalDirectory,
+                        @Value("${anime-service.in-memory.shards:1}") int shards) {
+        if (shards > 1 && !journalDirectory.isBlank()) {
+            throw new IllegalStateException("The in-memory journal cannot be combined with sharded stores");
+        }
+        this.journal = journalDirectory.isBlank() ? null : new MappedJournal<>(Path.of(journalDirectory, "producers"), new ProducerRecordCodec());
+        Supplier<InMemoryStore<Producer>> storeFactory = offHeap ? ProducerData::newOffHeapProducerStore : ProducerData::newProducerStore;
+        this.producers = shards > 1 ? newShardedProducerStore(shards, storeFactory) : journaled(storeFactory.get());
+        if (!producers.findAll().isEmpty()) return;
 
-    {
         var producer1 = Producer.builder().id(1L).name("MAPPA").createdAt(LocalDateTime.now()).build();
         var producer2 = Producer.builder().id(2L).name("Kyoto Animation").createdAt(LocalDateTime.now()).build();
         var producer3 = Producer.builder().id(3L).name("MadHouse").createdAt(LocalDateTime.now()).build();
-        producers.addAll(List.of(producer1, producer2, producer3));
+        Stream.of(producer1, producer2, producer3).forEach(producers::save);
+    }
+
+    @PreDestroy
+    void closeJournal() {
+        if (journal != null) journal.close();
     }
 
+    private InMemoryStore<Producer> journaled(InMemoryStore<Producer> store) {
+        return journal == null ? store : store.journaledTo(journal);
+    }
+
+    static ShardedInMemoryStore<Producer> newShardedProducerStore(int shards, Supplier<InMemoryStore<Producer>> storeFactory) {
+        return new ShardedInMemoryStore<>(shards, Producer::getId, storeFactory).generatingIds(Producer::setId);
+    }
+
+    static InMemoryStore<Producer> newProducerStore() {
+        return new InMemoryStore<>(Producer::getId)
+                .indexedBy(NAME_INDEX, producer -> nameKey(producer.getName()))
+                .generatingIds(Producer::setId);
+    }
+
+    static InMemoryStore<Producer> newOffHeapProducerStore() {
+        return new InMemoryStore<>(Producer::getId, new OffHeapProducerStorage())
+                .indexedBy(NAME_INDEX, producer -> nameKey(producer.getName()))
+                .generatingIds(Producer::setId);
+    }
+
+    static String nameKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
 }
@@ -15,29 +15,35 @@ public class ProducerHardCodedRepository {
     private final ProducerData producerData;
 
     public List<Producer> findAll() {
-        return producerData.getProducers();
+        return producerData.getProducers().findAll();
     }
 
     public Optional<Producer> findById(Long id) {
-        return producerData.getProducers().stream().filter(producer -> producer.getId().equals(id)).findFirst();
+        return producerData.getProducers().findById(id);
     }
 
     public List<Producer> findByName(String name) {
-        return name == null ? producerData.getProducers() :
-                producerData.getProducers().stream().filter(producer -> producer.getName().equalsIgnoreCase(name)).toList();
+        return name == null ? findAll() :
+                producerData.getProducers().findBy(ProducerData.NAME_INDEX, ProducerData.nameKey(name));
     }
 
     public Producer save(Producer producer) {
-        producerData.getProducers().add(producer);
-        return producer;
+        return producerData.getProducers().save(producer);
     }
 
     public void delete(Producer producer) {
-        producerData.getProducers().remove(producer);
+        producerData.getProducers().deleteById(producer.getId());
     }
 
-    public void update(Producer producer) {
-        delete(producer);
-        save(producer);
+    public boolean update(Producer producer) {
+        return producerData.getProducers().replace(producer);
+    }
+
+    public boolean update(Producer producer, long expectedVersion) {
+        return producerData.getProducers().replace(producer, expectedVersion);
+    }
+
+    public long findVersionById(Long id) {
+        return producerData.getProducers().versionOf(id);
     }
 }
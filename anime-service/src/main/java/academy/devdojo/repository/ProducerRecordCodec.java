@@ -0,0 +1,32 @@
+package academy.devdojo.repository;
+
+import academy.devdojo.domain.Producer;
+import academy.devdojo.store.RecordCodec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+public class ProducerRecordCodec implements RecordCodec<Producer> {
+
+    @Override
+    public void write(Producer producer, DataOutput output) throws IOException {
+        output.writeLong(producer.getId());
+        RecordCodec.writeString(output, producer.getName());
+        var createdAt = producer.getCreatedAt();
+        output.writeBoolean(createdAt != null);
+        if (createdAt == null) return;
+        output.writeLong(createdAt.toEpochSecond(ZoneOffset.UTC));
+        output.writeInt(createdAt.getNano());
+    }
+
+    @Override
+    public Producer read(DataInput input) throws IOException {
+        var id = input.readLong();
+        var name = RecordCodec.readString(input);
+        var createdAt = input.readBoolean() ? LocalDateTime.ofEpochSecond(input.readLong(), input.readInt(), ZoneOffset.UTC) : null;
+        return Producer.builder().id(id).name(name).createdAt(createdAt).build();
+    }
+}
@@ -1,13 +1,41 @@
 package academy.devdojo.repository;
 
 import academy.devdojo.domain.Producer;
+import academy.devdojo.response.ProducerGetResponse;
+import academy.devdojo.stream.NdjsonWriter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProducerRepository extends JpaRepository<Producer, Long> {
 
     Optional<Producer> findByName(String name);
+
+    @Modifying
+    @Query("update Producer p set p.name = :name, p.version = p.version + 1 where p.id = :id and (:version is null or p.version = :version)")
+    int updateById(Long id, Long version, String name);
+
+    @Query("select p from Producer p order by p.id")
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = NdjsonWriter.MYSQL_STREAMING_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    Stream<Producer> streamAll();
+
+    @Query("select new academy.devdojo.response.ProducerGetResponse(p.id, p.name, p.version) from Producer p")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<ProducerGetResponse> findAllProjectedBy();
+
+    @Query("select new academy.devdojo.response.ProducerGetResponse(p.id, p.name, p.version) from Producer p where p.id = :id")
+    Optional<ProducerGetResponse> findProjectedById(Long id);
+
+    @Query("select new academy.devdojo.response.ProducerGetResponse(p.id, p.name, p.version) from Producer p where p.name = :name")
+    Optional<ProducerGetResponse> findProjectedByName(String name);
 }
@@ -1,35 +1,105 @@
 package academy.devdojo.service;
 
+import academy.devdojo.bulk.BulkStatements;
+import academy.devdojo.cache.LookupCache;
+import academy.devdojo.datasource.ReplicaRouting;
 import academy.devdojo.domain.Anime;
 import academy.devdojo.exception.NotFoundException;
+import academy.devdojo.exception.PreconditionFailedException;
 import academy.devdojo.repository.AnimeRepository;
+import academy.devdojo.response.AnimeGetResponse;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static academy.devdojo.util.Constants.ANIME_MODIFIED;
 import static academy.devdojo.util.Constants.ANIME_NOT_FOUND;
 
 @Service
 @RequiredArgsConstructor
 public class AnimeService {
+    private static final int MAX_KEYSET_PAGE_SIZE = 100;
+    private static final int INSERT_BATCH_SIZE = 50;
 
     private final AnimeRepository repository;
+    private final EntityManager entityManager;
+    private final BulkStatements bulkStatements;
+    private final LookupCache<AnimeGetResponse> cache;
 
+    @Transactional(readOnly = true)
     public List<Anime> findAll() {
 
         return repository.findAll();
 
     }
 
+    @Transactional(readOnly = true)
+    public void forEach(Consumer<Anime> action) {
+        try (var animes = repository.streamAll()) {
+            animes.forEach(anime -> {
+                action.accept(anime);
+                entityManager.detach(anime);
+            });
+        }
+    }
+
+    @Transactional(readOnly = true)
     public Page<Anime> findAll(Pageable pageable) {
 
         return repository.findAll(pageable);
 
     }
 
+    @Transactional(readOnly = true)
+    public Slice<Anime> findSlice(Pageable pageable) {
+
+        return repository.findAllBy(pageable);
+
+    }
+
+    @Transactional(readOnly = true)
+    public AnimeKeysetPage<Anime> findAll(String cursor, AnimeCursor.SortKey sortKey, int size) {
+
+        var position = cursor == null || cursor.isBlank() ? AnimeCursor.first(sortKey) : AnimeCursor.decode(cursor);
+        var pageSize = Math.max(1, Math.min(size, MAX_KEYSET_PAGE_SIZE));
+        var oneMore = PageRequest.ofSize(pageSize + 1);
+
+        var animes = position.sortKey() == AnimeCursor.SortKey.NAME
+                ? repository.findPageAfterName(position.name(), position.id(), oneMore)
+                : repository.findPageAfterId(position.id(), oneMore);
+
+        if (animes.size() <= pageSize) return new AnimeKeysetPage<>(animes, null);
+
+        var content = animes.subList(0, pageSize);
+        var last = content.get(pageSize - 1);
+        var next = AnimeCursor.after(position.sortKey(), last.getName(), last.getId()).encode();
+        return new AnimeKeysetPage<>(List.copyOf(content), next);
+    }
+
+    @Transactional(readOnly = true)
+    public List<AnimeGetResponse> findAllProjected() {
+        return repository.findAllProjectedBy();
+    }
+
+    public AnimeGetResponse findProjectedById(Long id) {
+        return cache.findById(id, key -> ReplicaRouting.onPrimary(() -> repository.findProjectedById(key))
+                .orElseThrow(() -> new NotFoundException(ANIME_NOT_FOUND)));
+    }
+
+    public AnimeGetResponse findProjectedByName(String name) {
+        return cache.findByName(name, key -> ReplicaRouting.onPrimary(() -> repository.findProjectedByName(key))
+                .orElseThrow(() -> new NotFoundException(ANIME_NOT_FOUND)));
+    }
+
     public Anime findById(Long id) {
 
         return repository.findById(id)
@@ -44,20 +114,61 @@ public class AnimeService {
     }
 
     public Anime save(Anime anime) {
-        return repository.save(anime);
+        var saved = repository.save(anime);
+        cache.invalidate(saved.getId(), saved.getName());
+        return saved;
+    }
+
+    @Transactional
+    public List<Anime> saveAll(List<Anime> animes) {
+
+        for (int from = 0; from < animes.size(); from += INSERT_BATCH_SIZE) {
+            repository.saveAll(animes.subList(from, Math.min(from + INSERT_BATCH_SIZE, animes.size())));
+            entityManager.flush();
+            entityManager.clear();
+        }
+        cache.invalidate(animes.stream().map(Anime::getId).toList(), animes.stream().map(Anime::getName).toList());
+        return animes;
+    }
+
+    @Transactional
+    public int deleteAllById(List<Long> ids) {
+        cache.invalidate(ids, List.of());
+        return bulkStatements.deleteByIds(Anime.class, ids);
+    }
+
+    @Transactional
+    public int renameAll(List<Anime> animes) {
+        var namesById = new LinkedHashMap<Long, String>();
+        animes.forEach(anime -> namesById.put(anime.getId(), anime.getName()));
+
+        cache.invalidate(namesById.keySet(), namesById.values());
+        return bulkStatements.updateByIds(Anime.class, "name", namesById);
     }
 
+    @Transactional
     public void delete(Long id) {
 
         var anime = findById(id);
         repository.delete(anime);
+        cache.invalidate(anime.getId(), anime.getName());
 
     }
 
+    /**
+     * Writes the anime with a single {@code UPDATE ... WHERE id = ? AND version = ?}, where the version is the one the
+     * caller read ({@code null} skips the check). Only when no row matched does a second query tell a missing anime
+     * from a stale version.
+     */
+    @Transactional
     public void update(Anime animeToUpdate) {
+        var id = animeToUpdate.getId();
+        var updated = repository.updateById(id, animeToUpdate.getVersion(), animeToUpdate.getName());
+        if (updated == 0) {
+            throw repository.existsById(id) ? new PreconditionFailedException(ANIME_MODIFIED) : new NotFoundException(ANIME_NOT_FOUND);
+        }
 
-        findById(animeToUpdate.getId());
-        repository.save(animeToUpdate);
+        cache.invalidate(id, animeToUpdate.getName());
     }
 
 
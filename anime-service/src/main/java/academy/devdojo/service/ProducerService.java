@@ -1,13 +1,23 @@
 package academy.devdojo.service;
 
+import academy.devdojo.bulk.BulkStatements;
+import academy.devdojo.cache.LookupCache;
+import academy.devdojo.datasource.ReplicaRouting;
 import academy.devdojo.domain.Producer;
 import academy.devdojo.exception.NotFoundException;
+import academy.devdojo.exception.PreconditionFailedException;
 import academy.devdojo.repository.ProducerRepository;
+import academy.devdojo.response.ProducerGetResponse;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static academy.devdojo.util.Constants.PRODUCER_MODIFIED;
 import static academy.devdojo.util.Constants.PRODUCER_NOT_FOUND;
 
 @Service
@@ -16,11 +26,40 @@ import static academy.devdojo.util.Constants.PRODUCER_NOT_FOUND;
 public class ProducerService {
 
     private final ProducerRepository repository;
+    private final EntityManager entityManager;
+    private final BulkStatements bulkStatements;
+    private final LookupCache<ProducerGetResponse> cache;
 
+    @Transactional(readOnly = true)
     public List<Producer> findAll() {
         return repository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public void forEach(Consumer<Producer> action) {
+        try (var producers = repository.streamAll()) {
+            producers.forEach(producer -> {
+                action.accept(producer);
+                entityManager.detach(producer);
+            });
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProducerGetResponse> findAllProjected() {
+        return repository.findAllProjectedBy();
+    }
+
+    public ProducerGetResponse findProjectedById(Long id) {
+        return cache.findById(id, key -> ReplicaRouting.onPrimary(() -> repository.findProjectedById(key))
+                .orElseThrow(() -> new NotFoundException(PRODUCER_NOT_FOUND)));
+    }
+
+    public ProducerGetResponse findProjectedByName(String name) {
+        return cache.findByName(name, key -> ReplicaRouting.onPrimary(() -> repository.findProjectedByName(key))
+                .orElseThrow(() -> new NotFoundException(PRODUCER_NOT_FOUND)));
+    }
+
     public Producer findById(Long id) {
 
         return repository.findById(id)
@@ -33,19 +72,46 @@ public class ProducerService {
     }
 
     public Producer save(Producer producer) {
-        return repository.save(producer);
+        var saved = repository.save(producer);
+        cache.invalidate(saved.getId(), saved.getName());
+        return saved;
+    }
+
+    @Transactional
+    public int deleteAllById(List<Long> ids) {
+        cache.invalidate(ids, List.of());
+        return bulkStatements.deleteByIds(Producer.class, ids);
+    }
+
+    @Transactional
+    public int renameAll(List<Producer> producers) {
+        var namesById = new LinkedHashMap<Long, String>();
+        producers.forEach(producer -> namesById.put(producer.getId(), producer.getName()));
+
+        cache.invalidate(namesById.keySet(), namesById.values());
+        return bulkStatements.updateByIds(Producer.class, "name", namesById);
     }
 
+    @Transactional
     public void delete(Long id) {
         var producer = findById(id);
 
         repository.delete(producer);
+        cache.invalidate(producer.getId(), producer.getName());
     }
 
+    /**
+     * Single versioned {@code UPDATE}, see {@link AnimeService#update}.
+     */
+    @Transactional
     public void update(Producer producerToUpdate) {
-        findById(producerToUpdate.getId());
+        var id = producerToUpdate.getId();
+        var updated = repository.updateById(id, producerToUpdate.getVersion(), producerToUpdate.getName());
+        if (updated == 0) {
+            throw repository.existsById(id) ? new PreconditionFailedException(PRODUCER_MODIFIED) : new NotFoundException(PRODUCER_NOT_FOUND);
+        }
 
-        repository.save(producerToUpdate);
+        cache.invalidate(id, producerToUpdate.getName());
     }
 
 
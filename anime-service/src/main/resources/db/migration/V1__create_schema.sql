@@ -0,0 +1,21 @@
+create table `anime`
+(
+    `id`   bigint       not null,
+    `name` varchar(255) not null,
+    primary key (`id`)
+);
+
+create table `producer`
+(
+    `id`         bigint       not null auto_increment,
+    `created_at` datetime(6)  not null default current_timestamp(6),
+    `name`       varchar(255) not null,
+    primary key (`id`)
+);
+
+create table `id_generator`
+(
+    `entity`  varchar(255) not null,
+    `next_id` bigint,
+    primary key (`entity`)
+);
@@ -0,0 +1,20 @@
+-- InnoDB appends the primary key to every secondary index, so idx_anime_name is effectively (name, id) and also
+-- serves the name-ordered keyset pages.
+create index `idx_anime_name` on `anime` (`name`);
+
+create index `idx_producer_name` on `producer` (`name`);
+
+-- Existing databases are baselined past V1, so the generator table may not exist yet.
+create table if not exists `id_generator`
+(
+    `entity`  varchar(255) not null,
+    `next_id` bigint,
+    primary key (`entity`)
+);
+
+-- Databases created by ddl-auto still hold auto-increment ids. Start the pooled anime id generator a full
+-- allocation past them so the first block handed out cannot collide with an existing row.
+insert into `id_generator` (`entity`, `next_id`)
+select 'anime', coalesce(max(`id`), 0) + 51
+from `anime`
+on duplicate key update `next_id` = greatest(`next_id`, values(`next_id`));
@@ -0,0 +1,5 @@
+alter table `anime`
+    add column `version` bigint not null default 0;
+
+alter table `producer`
+    add column `version` bigint not null default 0;
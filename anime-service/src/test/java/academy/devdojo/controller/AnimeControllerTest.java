@@ -3,9 +3,15 @@ package academy.devdojo.controller;
 
 import academy.devdojo.commons.AnimeUtils;
 import academy.devdojo.commons.FileUtils;
+import academy.devdojo.domain.Anime;
 import academy.devdojo.exception.NotFoundException;
+import academy.devdojo.exception.PreconditionFailedException;
+import academy.devdojo.mapper.AnimeMapper;
 import academy.devdojo.mapper.AnimeMapperImpl;
+import academy.devdojo.service.AnimeCursor;
+import academy.devdojo.service.AnimeKeysetPage;
 import academy.devdojo.service.AnimeService;
+import academy.devdojo.stream.NdjsonWriter;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -20,6 +26,8 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
@@ -28,10 +36,11 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 @WebMvcTest(AnimeController.class)
-@Import({AnimeMapperImpl.class, FileUtils.class, AnimeUtils.class, AnimeService.class})
+@Import({AnimeMapperImpl.class, FileUtils.class, AnimeUtils.class, AnimeService.class, NdjsonWriter.class})
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 class AnimeControllerTest {
 
@@ -40,6 +49,7 @@ class AnimeControllerTest {
     private static final Long ID_NOT_FOUND = 1000L;
     private static final String INVALID_NAME = "x";
     private static final String ANIME_NOT_FOUND = "Anime not found";
+    private static final String ANIME_MODIFIED = "Anime was modified since it was read";
     @Autowired
     private MockMvc mockMvc;
 
@@ -49,6 +59,9 @@ class AnimeControllerTest {
     @Autowired
     private AnimeUtils animeUtils;
 
+    @Autowired
+    private AnimeMapper mapper;
+
     @MockBean
     private AnimeService service;
 
@@ -60,7 +73,7 @@ class AnimeControllerTest {
 
         var response = fileUtils.readResourcesFile("anime/get-anime-list-all-200.json");
 
-        BDDMockito.when(service.findAll()).thenReturn(animeUtils.newAnimeList());
+        BDDMockito.when(service.findAllProjected()).thenReturn(mapper.toAnimeGetResponsesList(animeUtils.newAnimeList()));
 
         mockMvc.perform(MockMvcRequestBuilders.get(URL + "/list"))
                 .andDo(MockMvcResultHandlers.print())
@@ -92,6 +105,72 @@ class AnimeControllerTest {
     }
 
 
+    @Test
+    @DisplayName("stream() writes one anime per line as NDJSON")
+    @Order(2)
+    public void stream_WritesAnimesAsNdjson_WhenSuccessful() throws Exception {
+
+        var response = fileUtils.readResourcesFile("anime/get-anime-stream-200.ndjson");
+
+        BDDMockito.doAnswer(invocation -> {
+            Consumer<Anime> action = invocation.getArgument(0);
+            animeUtils.newAnimeList().forEach(action);
+            return null;
+        }).when(service).forEach(ArgumentMatchers.any());
+
+        var mvcResult = mockMvc.perform(MockMvcRequestBuilders.get(URL + "/stream"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(mvcResult))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(MockMvcResultMatchers.content().string(response));
+    }
+
+    @Test
+    @DisplayName("list() Return a slice without totals when 'withTotal' is false")
+    @Order(2)
+    public void list_ReturnAnimesSlice_WhenWithTotalIsFalse() throws Exception {
+
+        var response = fileUtils.readResourcesFile("anime/get-anime-slice-200.json");
+
+        var animes = animeUtils.newAnimeList().subList(0, 2);
+
+        var slicedAnimes = new SliceImpl<>(animes, PageRequest.of(0, 2), true);
+
+        BDDMockito.when(service.findSlice(BDDMockito.any(Pageable.class))).thenReturn(slicedAnimes);
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL + "/paginated").param("size", "2").param("withTotal", "false"))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().json(response))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").doesNotExist());
+
+        BDDMockito.verify(service, BDDMockito.never()).findAll(BDDMockito.any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("list() Return a keyset page with the token of the next page")
+    @Order(2)
+    public void list_ReturnAnimesKeysetPage_WhenSuccessful() throws Exception {
+
+        var response = fileUtils.readResourcesFile("anime/get-anime-keyset-200.json");
+
+        var animes = animeUtils.newAnimeList().subList(0, 2);
+
+        var page = new AnimeKeysetPage<>(animes, AnimeCursor.after(AnimeCursor.SortKey.ID, animes.get(1).getName(), animes.get(1).getId()).encode());
+
+        BDDMockito.when(service.findAll(null, AnimeCursor.SortKey.ID, 2)).thenReturn(page);
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL + "/keyset").param("size", "2"))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().json(response));
+
+    }
+
     @Test
     @DisplayName("list() Return an empty List when no anime is not found by name")
     @Order(3)
@@ -100,7 +179,7 @@ class AnimeControllerTest {
 
         var response = fileUtils.readResourcesFile("anime/get-anime-x-name-200.json");
 
-        BDDMockito.when(service.findAll()).thenReturn(Collections.emptyList());
+        BDDMockito.when(service.findAllProjected()).thenReturn(Collections.emptyList());
 
         mockMvc.perform(MockMvcRequestBuilders.get(URL + "/list").param("name", INVALID_NAME))
                 .andDo(MockMvcResultHandlers.print())
@@ -118,11 +197,14 @@ class AnimeControllerTest {
 
         var animeFound = animeUtils.animeFound();
 
-        BDDMockito.when(service.findById(ID_FOUND)).thenReturn(animeFound);
+        animeFound.setVersion(4L);
+
+        BDDMockito.when(service.findProjectedById(ID_FOUND)).thenReturn(mapper.toAnimeGetResponse(animeFound));
 
         mockMvc.perform(MockMvcRequestBuilders.get(URL + "/{id}", ID_FOUND))
                 .andDo(MockMvcResultHandlers.print())
                 .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"4\""))
                 .andExpect(MockMvcResultMatchers.content().json(response));
     }
 
@@ -133,7 +215,7 @@ class AnimeControllerTest {
 
         var response = fileUtils.readResourcesFile("anime/anime-response-not-found-error-404.json");
 
-        BDDMockito.when(service.findById(ArgumentMatchers.any())).thenThrow(new NotFoundException(ANIME_NOT_FOUND));
+        BDDMockito.when(service.findProjectedById(ArgumentMatchers.any())).thenThrow(new NotFoundException(ANIME_NOT_FOUND));
 
         mockMvc.perform(MockMvcRequestBuilders.get(URL + "/{id}", ID_NOT_FOUND))
                 .andDo(MockMvcResultHandlers.print())
@@ -155,7 +237,7 @@ class AnimeControllerTest {
         var response = fileUtils.readResourcesFile("anime/get-anime-bleach-name-200.json");
 
 
-        BDDMockito.when(service.findByName(name)).thenReturn(animeFound);
+        BDDMockito.when(service.findProjectedByName(name)).thenReturn(mapper.toAnimeGetResponse(animeFound));
 
         mockMvc.perform(MockMvcRequestBuilders.get(URL + "/filter").param("name", name))
                 .andDo(MockMvcResultHandlers.print())
@@ -186,6 +268,60 @@ class AnimeControllerTest {
 
     }
 
+    @Test
+    @DisplayName("saveAll() Create animes in batch")
+    @Order(7)
+    public void saveAll_CreateAnimes_WhenSuccessful() throws Exception {
+
+        var response = fileUtils.readResourcesFile("anime/post-response-anime-batch-201.json");
+
+        var request = fileUtils.readResourcesFile("anime/post-request-anime-batch-200.json");
+
+        var animesSaved = List.of(animeUtils.newAnimeToSave(), Anime.builder().id(100L).name("Hunter x Hunter").build());
+
+        BDDMockito.when(service.saveAll(ArgumentMatchers.anyList())).thenReturn(animesSaved);
+
+        mockMvc.perform(MockMvcRequestBuilders.post(URL + "/batch").content(request).contentType(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andExpect(MockMvcResultMatchers.content().json(response));
+
+    }
+
+    @Test
+    @DisplayName("saveAll() Returns bad request when no anime is sent")
+    @Order(7)
+    public void saveAll_ReturnsBadRequest_WhenAnimesAreEmpty() throws Exception {
+
+        var request = fileUtils.readResourcesFile("anime/post-request-anime-batch-empty-400.json");
+
+        var mvcResult = mockMvc.perform(MockMvcRequestBuilders.post(URL + "/batch").content(request).contentType(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andReturn();
+
+        Assertions.assertThat(mvcResult.getResolvedException()).isNotNull();
+
+        Assertions.assertThat(mvcResult.getResolvedException().getMessage()).contains("The field 'animes' is required");
+
+        BDDMockito.verifyNoInteractions(service);
+    }
+
+    @Test
+    @DisplayName("deleteAll() Returns the number of deleted animes")
+    @Order(9)
+    public void deleteAll_ReturnsAffectedRows_WhenSuccessful() throws Exception {
+
+        var request = fileUtils.readResourcesFile("anime/post-request-anime-bulk-delete-200.json");
+
+        BDDMockito.when(service.deleteAllById(List.of(1L, 2L, ID_NOT_FOUND))).thenReturn(2);
+
+        mockMvc.perform(MockMvcRequestBuilders.post(URL + "/bulk/delete").content(request).contentType(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.affected").value(2));
+    }
+
     @Test
     @DisplayName("update() Update a Anime")
     @Order(8)
@@ -201,6 +337,22 @@ class AnimeControllerTest {
 
     }
 
+    @Test
+    @DisplayName("update() Returns PreconditionFailed when If-Match holds a stale version")
+    @Order(8)
+    public void update_ReturnsPreconditionFailed_WhenIfMatchIsStale() throws Exception {
+
+        var request = fileUtils.readResourcesFile("anime/put-request-anime-200.json");
+
+        BDDMockito.doThrow(new PreconditionFailedException(ANIME_MODIFIED))
+                .when(service).update(ArgumentMatchers.argThat(anime -> Long.valueOf(3L).equals(anime.getVersion())));
+
+        mockMvc.perform(MockMvcRequestBuilders.put(URL).content(request).contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_MATCH, "\"3\""))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isPreconditionFailed());
+    }
+
     @Test
     @DisplayName("update() Updates NotFound when anime is not found")
     @Order(9)
@@ -3,9 +3,12 @@ package academy.devdojo.controller;
 
 import academy.devdojo.commons.FileUtils;
 import academy.devdojo.commons.ProducerUtils;
+import academy.devdojo.domain.Producer;
 import academy.devdojo.exception.NotFoundException;
+import academy.devdojo.mapper.ProducerMapper;
 import academy.devdojo.mapper.ProducerMapperImpl;
 import academy.devdojo.service.ProducerService;
+import academy.devdojo.stream.NdjsonWriter;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -26,13 +29,14 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 
 @WebMvcTest(ProducerController.class)
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 @ActiveProfiles("test")
-@Import({ProducerMapperImpl.class, ProducerService.class, FileUtils.class, ProducerUtils.class})
+@Import({ProducerMapperImpl.class, ProducerService.class, FileUtils.class, ProducerUtils.class, NdjsonWriter.class})
 class ProducerControllerTest {
 
     private static final String URL = "/v1/producers";
@@ -51,6 +55,9 @@ class ProducerControllerTest {
     @Autowired
     private ProducerUtils producerUtils;
 
+    @Autowired
+    private ProducerMapper mapper;
+
     @MockBean
     private ProducerService service;
 
@@ -63,7 +70,7 @@ class ProducerControllerTest {
 
         var response = fileUtils.readResourcesFile("producer/get-producer-null-name-200.json");
 
-        BDDMockito.when(service.findAll()).thenReturn(producerUtils.newProducerList());
+        BDDMockito.when(service.findAllProjected()).thenReturn(mapper.toProducerGetResponseList(producerUtils.newProducerList()));
 
         mockMvc.perform(MockMvcRequestBuilders.get(URL))
                 .andDo(MockMvcResultHandlers.print())
@@ -71,6 +78,30 @@ class ProducerControllerTest {
                 .andExpect(MockMvcResultMatchers.content().json(response));
     }
 
+    @Test
+    @DisplayName("stream() writes one producer per line as NDJSON")
+    @Order(1)
+    void stream_WritesProducersAsNdjson_WhenSuccessful() throws Exception {
+
+        var response = fileUtils.readResourcesFile("producer/get-producer-stream-200.ndjson");
+
+        BDDMockito.doAnswer(invocation -> {
+            Consumer<Producer> action = invocation.getArgument(0);
+            producerUtils.newProducerList().forEach(action);
+            return null;
+        }).when(service).forEach(ArgumentMatchers.any());
+
+        var mvcResult = mockMvc.perform(MockMvcRequestBuilders.get(URL + "/stream"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(mvcResult))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(MockMvcResultMatchers.content().string(response));
+    }
+
 
     @Test
     @DisplayName("list() returns an empty list when no producer is found by name")
@@ -93,7 +124,7 @@ class ProducerControllerTest {
 
         var animeFound = producerUtils.producerFound();
 
-        BDDMockito.when(service.findById(ID_FOUND)).thenReturn(animeFound);
+        BDDMockito.when(service.findProjectedById(ID_FOUND)).thenReturn(mapper.toProducerGetResponse(animeFound));
 
         mockMvc.perform(MockMvcRequestBuilders.get(URL + "/{id}", ID_FOUND))
                 .andDo(MockMvcResultHandlers.print())
@@ -108,7 +139,7 @@ class ProducerControllerTest {
 
         var response = fileUtils.readResourcesFile("producer/producer-response-not-found-error-404.json");
 
-        BDDMockito.when(service.findById(ArgumentMatchers.any())).thenThrow(new NotFoundException(PRODUCER_NOT_FOUND));
+        BDDMockito.when(service.findProjectedById(ArgumentMatchers.any())).thenThrow(new NotFoundException(PRODUCER_NOT_FOUND));
 
         mockMvc.perform(MockMvcRequestBuilders.get(URL + "/{id}", ID_NOT_FOUND))
                 .andDo(MockMvcResultHandlers.print())
@@ -130,7 +161,7 @@ class ProducerControllerTest {
         var response = fileUtils.readResourcesFile("producer/get-producer-ufotable-name-200.json");
 
 
-        BDDMockito.when(service.findByName(name)).thenReturn(producerFound);
+        BDDMockito.when(service.findProjectedByName(name)).thenReturn(mapper.toProducerGetResponse(producerFound));
 
         mockMvc.perform(MockMvcRequestBuilders.get(URL + "/filter").param("name", name))
                 .andDo(MockMvcResultHandlers.print())
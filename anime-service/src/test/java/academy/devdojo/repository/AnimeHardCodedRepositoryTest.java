@@ -3,6 +3,7 @@ package academy.devdojo.repository;
 import academy.devdojo.commons.AnimeUtils;
 import academy.devdojo.domain.Anime;
 import academy.devdojo.mapper.AnimeMapperImpl;
+import academy.devdojo.store.InMemoryStore;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,6 +14,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.annotation.Import;
 
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
 
 @ExtendWith(MockitoExtension.class)
 @Import(AnimeMapperImpl.class)
@@ -21,6 +25,7 @@ import java.util.List;
 class AnimeHardCodedRepositoryTest {
 
     private List<Anime> animes;
+    private InMemoryStore<Anime> store;
     @Mock
     private AnimeData animeData;
     @InjectMocks
@@ -33,7 +38,11 @@ class AnimeHardCodedRepositoryTest {
 
         animes = animeUtils.newAnimeList();
 
-        BDDMockito.when(animeData.getAnimes()).thenReturn(animes);
+        store = AnimeData.newAnimeStore();
+
+        BDDMockito.when(animeData.getAnimes()).thenReturn(store);
+
+        animes.forEach(repository::save);
     }
 
     @Test
@@ -77,6 +86,26 @@ class AnimeHardCodedRepositoryTest {
         Assertions.assertThat(animes).isNotNull().isEmpty();
     }
 
+    @Test
+    @DisplayName("findByName() returns every anime sharing the name ignoring case")
+    @Order(5)
+    public void findByName_ReturnAllAnimesWithSameName_WhenNameIsDuplicated() {
+        var duplicated = Anime.builder().id(50L).name("BLEACH").build();
+        repository.save(duplicated);
+        var animes = repository.findByName("bleach");
+        Assertions.assertThat(animes).hasSize(2).containsExactlyInAnyOrder(this.animes.get(2), duplicated);
+    }
+
+    @Test
+    @DisplayName("findByName() follows the new name after update")
+    @Order(5)
+    public void findByName_ReturnsUpdatedAnime_WhenNameIsChanged() {
+        var animeToUpdate = Anime.builder().id(3L).name("Bleach: Thousand-Year Blood War").build();
+        repository.update(animeToUpdate);
+        Assertions.assertThat(repository.findByName("Bleach")).isEmpty();
+        Assertions.assertThat(repository.findByName("bleach: thousand-year blood war")).containsExactly(animeToUpdate);
+    }
+
     @Test
     @DisplayName("save() Create anime")
     @Order(6)
@@ -88,13 +117,25 @@ class AnimeHardCodedRepositoryTest {
         Assertions.assertThat(animes).contains(animeToSave);
     }
 
+    @Test
+    @DisplayName("save() assigns the next id when anime has none")
+    @Order(6)
+    public void save_AssignsNextId_WhenIdIsNull() {
+        var anime = repository.save(Anime.builder().name("Chainsaw Man").build());
+        Assertions.assertThat(anime.getId()).isGreaterThan(4L);
+        Assertions.assertThat(repository.findById(anime.getId())).contains(anime);
+        var nextAnime = repository.save(Anime.builder().name("Frieren").build());
+        Assertions.assertThat(nextAnime.getId()).isNotEqualTo(anime.getId());
+    }
+
     @Test
     @DisplayName("delete() Delete anime")
     @Order(7)
     public void delete_RemoveAnime_WhenSuccessful() {
         var animeToDelete = this.animes.get(0);
         repository.delete(animeToDelete);
-        Assertions.assertThat(this.animes).doesNotContain(animeToDelete);
+        Assertions.assertThat(store.findAll()).doesNotContain(animeToDelete);
+        Assertions.assertThat(repository.findById(animeToDelete.getId())).isEmpty();
     }
 
     @Test
@@ -104,11 +145,58 @@ class AnimeHardCodedRepositoryTest {
         var animeToUpdate = this.animes.get(1);
         animeToUpdate.setName("Updating");
         repository.update(animeToUpdate);
-        Assertions.assertThat(this.animes).contains(animeToUpdate);
-        this.animes.stream().filter(animes -> animes.getId().equals(animeToUpdate.getId())).findFirst()
+        Assertions.assertThat(store.findAll()).contains(animeToUpdate).hasSize(this.animes.size());
+        repository.findById(animeToUpdate.getId())
                 .ifPresent(anime -> Assertions.assertThat(anime.getName()).isEqualTo(animeToUpdate.getName()));
 
     }
 
+    @Test
+    @DisplayName("update() does not insert an anime when id does not exist")
+    @Order(8)
+    public void update_ReturnsFalse_WhenAnimeIsNotFound() {
+        var animeToUpdate = Anime.builder().id(1_000L).name("Not saved").build();
+        Assertions.assertThat(repository.update(animeToUpdate)).isFalse();
+        Assertions.assertThat(repository.findById(1_000L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("update() with a stale version keeps the current anime")
+    @Order(8)
+    public void update_ReturnsFalse_WhenVersionIsStale() {
+        var version = repository.findVersionById(1L);
+        Assertions.assertThat(repository.update(Anime.builder().id(1L).name("First").build(), version)).isTrue();
+        Assertions.assertThat(repository.update(Anime.builder().id(1L).name("Second").build(), version)).isFalse();
+        Assertions.assertThat(repository.findById(1L)).hasValueSatisfying(anime -> Assertions.assertThat(anime.getName()).isEqualTo("First"));
+        Assertions.assertThat(repository.findVersionById(1L)).isGreaterThan(version);
+    }
+
+    @Test
+    @DisplayName("save() keeps every anime when called from many threads")
+    @Order(9)
+    public void save_KeepsAllAnimes_WhenCalledConcurrently() throws InterruptedException {
+        var executor = Executors.newFixedThreadPool(8);
+        LongStream.rangeClosed(100, 1_099)
+                .forEach(id -> executor.submit(() -> repository.save(Anime.builder().id(id).name("Anime " + id).build())));
+        executor.shutdown();
+        Assertions.assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        Assertions.assertThat(repository.findAll()).hasSize(this.animes.size() + 1_000);
+        Assertions.assertThat(repository.findById(550L)).hasValueSatisfying(anime -> Assertions.assertThat(anime.getName()).isEqualTo("Anime 550"));
+    }
+
+    @Test
+    @DisplayName("findAll() returns a point-in-time snapshot that is not affected by later writes")
+    @Order(10)
+    public void findAll_ReturnsStableSnapshot_WhenAnimesAreSavedAfterwards() {
+        var snapshot = repository.findAll();
+        Assertions.assertThat(repository.findAll()).isSameAs(snapshot);
+
+        repository.save(animeUtils.newAnimeToSave());
+
+        Assertions.assertThat(snapshot).hasSameElementsAs(this.animes);
+        Assertions.assertThat(repository.findAll()).hasSize(this.animes.size() + 1);
+        Assertions.assertThatThrownBy(() -> snapshot.add(animeUtils.newAnimeToSave())).isInstanceOf(UnsupportedOperationException.class);
+    }
+
 
 }
\ No newline at end of file
@@ -0,0 +1,70 @@
+package academy.devdojo.repository;
+
+import academy.devdojo.commons.QueryPlanUtils;
+import academy.devdojo.config.IntegrationTestContainers;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static academy.devdojo.commons.QueryPlanUtils.SEED_PREFIX;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QueryPlanUtils.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class AnimeRepositoryIT extends IntegrationTestContainers {
+    private static final int SEEDED_ROWS = 2_000;
+    private static final long SEEDED_FIRST_ID = 1_000_000L;
+
+    @Autowired
+    private AnimeRepository repository;
+    @Autowired
+    private QueryPlanUtils queryPlanUtils;
+
+    @BeforeAll
+    void seed() {
+        queryPlanUtils.seed("anime", List.of("id", "name"), SEEDED_ROWS, i -> new Object[]{SEEDED_FIRST_ID + i, seededName(i)});
+    }
+
+    @AfterAll
+    void deleteSeeded() {
+        queryPlanUtils.deleteSeeded("anime", "name");
+    }
+
+    @Test
+    @DisplayName("findProjectedByName() looks the anime up through idx_anime_name")
+    @Order(1)
+    void findProjectedByName_UsesNameIndex_WhenSuccessful() {
+        var name = seededName(1_000);
+
+        var plan = queryPlanUtils.indexByTable(() -> Assertions.assertThat(repository.findProjectedByName(name)).isPresent(), name);
+
+        Assertions.assertThat(plan).containsEntry("anime", "idx_anime_name");
+    }
+
+    @Test
+    @DisplayName("findPageAfterName() walks idx_anime_name instead of sorting the table")
+    @Order(2)
+    void findPageAfterName_UsesNameIndex_WhenSuccessful() {
+        var last = SEEDED_ROWS - 10;
+        var name = seededName(last);
+        var id = SEEDED_FIRST_ID + last;
+        var pageSize = 3;
+
+        var plan = queryPlanUtils.indexByTable(() -> Assertions.assertThat(repository.findPageAfterName(name, id, PageRequest.of(0, pageSize)))
+                .hasSize(pageSize), name, name, id, pageSize);
+
+        Assertions.assertThat(plan).containsEntry("anime", "idx_anime_name");
+    }
+
+    private static String seededName(int i) {
+        return "%s%05d".formatted(SEED_PREFIX, i);
+    }
+}
@@ -0,0 +1,105 @@
+package academy.devdojo.repository;
+
+import academy.devdojo.domain.Producer;
+import academy.devdojo.store.InMemoryStore;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+class OffHeapProducerStorageTest {
+    private static final int FOOTPRINT_PRODUCERS = 100_000;
+
+    private OffHeapProducerStorage storage;
+
+    @BeforeEach
+    void init() {
+        storage = new OffHeapProducerStorage(16);
+    }
+
+    @Test
+    @DisplayName("get() materializes a copy of the stored producer")
+    void get_ReturnsEqualProducer_WhenProducerWasStored() {
+        var createdAt = LocalDateTime.of(2024, 4, 1, 10, 30, 15, 123_456_789);
+        var producer = Producer.builder().id(7L).name("Studio Trigger ✦").createdAt(createdAt).build();
+
+        storage.put(7L, producer);
+
+        var producerFound = storage.get(7L);
+        Assertions.assertThat(producerFound).isNotSameAs(producer).usingRecursiveComparison().isEqualTo(producer);
+        Assertions.assertThat(storage.retainsValues()).isFalse();
+    }
+
+    @Test
+    @DisplayName("put() keeps null createdAt when the producer has none")
+    void put_KeepsNullCreatedAt_WhenProducerHasNone() {
+        storage.put(1L, Producer.builder().id(1L).name("Bones").build());
+
+        Assertions.assertThat(storage.get(1L).getCreatedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("put() returns the previous producer and replaces its name")
+    void put_ReturnsPreviousProducer_WhenIdExists() {
+        storage.put(1L, Producer.builder().id(1L).name("Bones").build());
+
+        var previous = storage.put(1L, Producer.builder().id(1L).name("Bones Inc.").build());
+
+        Assertions.assertThat(previous.getName()).isEqualTo("Bones");
+        Assertions.assertThat(storage.get(1L).getName()).isEqualTo("Bones Inc.");
+        Assertions.assertThat(storage.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("remove() frees the slot and other producers stay readable after growth and compaction")
+    void remove_KeepsOtherProducersReadable_WhenStorageGrowsAndCompacts() {
+        LongStream.rangeClosed(1, 5_000).forEach(id -> storage.put(id, Producer.builder().id(id).name("Producer " + id).build()));
+        LongStream.rangeClosed(1, 5_000).filter(id -> id % 2 == 0).forEach(storage::remove);
+        LongStream.rangeClosed(1, 5_000).filter(id -> id % 2 == 1)
+                .forEach(id -> storage.put(id, Producer.builder().id(id).name("Renamed producer " + id).build()));
+
+        Assertions.assertThat(storage.size()).isEqualTo(2_500);
+        Assertions.assertThat(storage.get(2L)).isNull();
+        Assertions.assertThat(storage.get(4_999L).getName()).isEqualTo("Renamed producer 4999");
+
+        var producers = new ArrayList<Producer>();
+        storage.forEachValue(producers::add);
+        Assertions.assertThat(producers).hasSize(2_500).allSatisfy(producer ->
+                Assertions.assertThat(producer.getName()).isEqualTo("Renamed producer " + producer.getId()));
+    }
+
+    @Test
+    @DisplayName("newOffHeapProducerStore() retains less than half the heap of the on-heap store, index included")
+    void newOffHeapProducerStore_RetainsLessThanHalfTheHeap_WhenFilledWithProducers() {
+        var onHeapBytes = retainedHeapOf(ProducerData::newProducerStore);
+        var offHeapBytes = retainedHeapOf(ProducerData::newOffHeapProducerStore);
+
+        Assertions.assertThat(offHeapBytes).isLessThan(onHeapBytes / 2);
+    }
+
+    private static long retainedHeapOf(Supplier<InMemoryStore<Producer>> storeFactory) {
+        var before = usedHeapAfterGc();
+        var store = storeFactory.get();
+        var createdAt = LocalDateTime.of(2024, 4, 1, 10, 30);
+        LongStream.rangeClosed(1, FOOTPRINT_PRODUCERS).forEach(id ->
+                store.save(Producer.builder().id(id).name("Producer " + id).createdAt(createdAt.plusSeconds(id)).build()));
+        var after = usedHeapAfterGc();
+
+        Assertions.assertThat(store.findBy(ProducerData.NAME_INDEX, "producer 4242")).hasSize(1);
+        Reference.reachabilityFence(store);
+        return after - before;
+    }
+
+    private static long usedHeapAfterGc() {
+        var memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -2,6 +2,7 @@ package academy.devdojo.repository;
 
 import academy.devdojo.commons.ProducerUtils;
 import academy.devdojo.domain.Producer;
+import academy.devdojo.store.InMemoryStore;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,7 +11,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -18,6 +23,7 @@ import java.util.List;
 class ProducerHardCodedRepositoryTest {
 
     private List<Producer> producers;
+    private InMemoryStore<Producer> store;
     @Mock
     private ProducerData producerData;
     @InjectMocks
@@ -30,7 +36,11 @@ class ProducerHardCodedRepositoryTest {
 
         producers = producerUtils.newProducerList();
 
-        BDDMockito.when(producerData.getProducers()).thenReturn(producers);
+        store = ProducerData.newProducerStore();
+
+        BDDMockito.when(producerData.getProducers()).thenReturn(store);
+
+        producers.forEach(repository::save);
     }
 
     @Test
@@ -83,6 +93,34 @@ class ProducerHardCodedRepositoryTest {
         Assertions.assertThat(producers).isNotNull().isEmpty();
     }
 
+    @Test
+    @DisplayName("findByName() returns every producer sharing the name ignoring case")
+    @Order(5)
+    void findByName_ReturnAllProducersWithSameName_WhenNameIsDuplicated() {
+
+        var duplicated = Producer.builder().id(50L).name("UFOTABLE").createdAt(LocalDateTime.now()).build();
+
+        repository.save(duplicated);
+
+        var producers = repository.findByName("ufotable");
+
+        Assertions.assertThat(producers).hasSize(2).containsExactlyInAnyOrder(this.producers.get(0), duplicated);
+    }
+
+    @Test
+    @DisplayName("findByName() follows the new name after update")
+    @Order(5)
+    void findByName_ReturnsUpdatedProducer_WhenNameIsChanged() {
+
+        var producerToUpdate = Producer.builder().id(1L).name("Ufotable Digital").createdAt(LocalDateTime.now()).build();
+
+        repository.update(producerToUpdate);
+
+        Assertions.assertThat(repository.findByName("Ufotable")).isEmpty();
+
+        Assertions.assertThat(repository.findByName("ufotable digital")).containsExactly(producerToUpdate);
+    }
+
     @Test
     @DisplayName("save() Create a producer")
     @Order(6)
@@ -99,6 +137,18 @@ class ProducerHardCodedRepositoryTest {
         Assertions.assertThat(producers).contains(producerToSave);
     }
 
+    @Test
+    @DisplayName("save() assigns the next id when producer has none")
+    @Order(6)
+    void save_AssignsNextId_WhenIdIsNull() {
+
+        var producer = repository.save(Producer.builder().name("Science SARU").createdAt(LocalDateTime.now()).build());
+
+        Assertions.assertThat(producer.getId()).isGreaterThan(3L);
+
+        Assertions.assertThat(repository.findById(producer.getId())).contains(producer);
+    }
+
     @Test
     @DisplayName("delete() Removes a producer")
     @Order(7)
@@ -108,7 +158,9 @@ class ProducerHardCodedRepositoryTest {
 
         repository.delete(producerToDelete);
 
-        Assertions.assertThat(this.producers).doesNotContain(producerToDelete);
+        Assertions.assertThat(store.findAll()).doesNotContain(producerToDelete);
+
+        Assertions.assertThat(repository.findById(producerToDelete.getId())).isEmpty();
     }
 
     @Test
@@ -122,9 +174,70 @@ class ProducerHardCodedRepositoryTest {
 
         repository.update(producerToUpdate);
 
-        Assertions.assertThat(this.producers).contains(producerToUpdate);
+        Assertions.assertThat(store.findAll()).contains(producerToUpdate).hasSize(this.producers.size());
+
+        repository.findById(producerToUpdate.getId()).ifPresent(producer -> Assertions.assertThat(producer.getName()).isEqualTo(producerToUpdate.getName()));
+    }
+
+    @Test
+    @DisplayName("update() does not insert a producer when id does not exist")
+    @Order(8)
+    void update_ReturnsFalse_WhenProducerIsNotFound() {
+
+        var producerToUpdate = Producer.builder().id(1_000L).name("Not saved").createdAt(LocalDateTime.now()).build();
+
+        Assertions.assertThat(repository.update(producerToUpdate)).isFalse();
+
+        Assertions.assertThat(repository.findById(1_000L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("update() with a stale version keeps the current producer")
+    @Order(8)
+    void update_ReturnsFalse_WhenVersionIsStale() {
+
+        var version = repository.findVersionById(1L);
+
+        Assertions.assertThat(repository.update(Producer.builder().id(1L).name("First").build(), version)).isTrue();
+
+        Assertions.assertThat(repository.update(Producer.builder().id(1L).name("Second").build(), version)).isFalse();
+
+        Assertions.assertThat(repository.findById(1L)).hasValueSatisfying(producer -> Assertions.assertThat(producer.getName()).isEqualTo("First"));
+    }
+
+    @Test
+    @DisplayName("save() keeps every producer when called from many threads")
+    @Order(9)
+    void save_KeepsAllProducers_WhenCalledConcurrently() throws InterruptedException {
+
+        var executor = Executors.newFixedThreadPool(8);
+
+        LongStream.rangeClosed(100, 1_099)
+                .forEach(id -> executor.submit(() -> repository.save(Producer.builder().id(id).name("Producer " + id).createdAt(LocalDateTime.now()).build())));
+
+        executor.shutdown();
+
+        Assertions.assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        Assertions.assertThat(repository.findAll()).hasSize(this.producers.size() + 1_000);
+
+        Assertions.assertThat(repository.findById(550L)).hasValueSatisfying(producer -> Assertions.assertThat(producer.getName()).isEqualTo("Producer 550"));
+    }
+
+    @Test
+    @DisplayName("findAll() returns a point-in-time snapshot that is not affected by later writes")
+    @Order(10)
+    void findAll_ReturnsStableSnapshot_WhenProducersAreSavedAfterwards() {
+
+        var snapshot = repository.findAll();
+
+        Assertions.assertThat(repository.findAll()).isSameAs(snapshot);
+
+        repository.save(producerUtils.newProducerToSave());
+
+        Assertions.assertThat(snapshot).hasSameElementsAs(this.producers);
 
-        this.producers.stream().filter(producer -> producer.getId().equals(producerToUpdate.getId())).findFirst().ifPresent(producer -> Assertions.assertThat(producer.getName()).isEqualTo(producerToUpdate.getName()));
+        Assertions.assertThat(repository.findAll()).hasSize(this.producers.size() + 1);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package academy.devdojo.repository;
+
+import academy.devdojo.commons.QueryPlanUtils;
+import academy.devdojo.config.IntegrationTestContainers;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static academy.devdojo.commons.QueryPlanUtils.SEED_PREFIX;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QueryPlanUtils.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ProducerRepositoryIT extends IntegrationTestContainers {
+    private static final int SEEDED_ROWS = 2_000;
+
+    @Autowired
+    private ProducerRepository repository;
+    @Autowired
+    private QueryPlanUtils queryPlanUtils;
+
+    @BeforeAll
+    void seed() {
+        queryPlanUtils.seed("producer", List.of("name"), SEEDED_ROWS, i -> new Object[]{seededName(i)});
+    }
+
+    @AfterAll
+    void deleteSeeded() {
+        queryPlanUtils.deleteSeeded("producer", "name");
+    }
+
+    @Test
+    @DisplayName("findProjectedByName() looks the producer up through idx_producer_name")
+    @Order(1)
+    void findProjectedByName_UsesNameIndex_WhenSuccessful() {
+        var name = seededName(1_000);
+
+        var plan = queryPlanUtils.indexByTable(() -> Assertions.assertThat(repository.findProjectedByName(name)).isPresent(), name);
+
+        Assertions.assertThat(plan).containsEntry("producer", "idx_producer_name");
+    }
+
+    private static String seededName(int i) {
+        return "%s%05d".formatted(SEED_PREFIX, i);
+    }
+}
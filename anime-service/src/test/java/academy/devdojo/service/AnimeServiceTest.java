@@ -1,22 +1,34 @@
 package academy.devdojo.service;
 
+import academy.devdojo.bulk.BulkStatements;
+import academy.devdojo.cache.LookupCache;
 import academy.devdojo.commons.AnimeUtils;
 import academy.devdojo.domain.Anime;
+import academy.devdojo.exception.InvalidCursorException;
 import academy.devdojo.exception.NotFoundException;
+import academy.devdojo.exception.PreconditionFailedException;
 import academy.devdojo.repository.AnimeRepository;
+import academy.devdojo.response.AnimeGetResponse;
+import jakarta.persistence.EntityManager;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +43,12 @@ class AnimeServiceTest {
     private AnimeUtils animeUtils;
     @Mock
     private AnimeRepository repository;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private BulkStatements bulkStatements;
+    @Spy
+    private LookupCache<AnimeGetResponse> cache = new LookupCache<>("animes", 100, Duration.ofMinutes(1), AnimeGetResponse::getId);
 
 
     @BeforeEach
@@ -69,6 +87,167 @@ class AnimeServiceTest {
         Assertions.assertThat(animesFound).hasSameElementsAs(this.animes);
     }
 
+    @Test
+    @DisplayName("findProjectedById() Return the projected anime when id exists")
+    @Order(3)
+    void findProjectedById_ReturnAnimeGetResponse_WhenSuccessful() {
+
+        var response = new AnimeGetResponse(ID_FOUND, "Bleach", 0L);
+
+        BDDMockito.when(repository.findProjectedById(ID_FOUND)).thenReturn(Optional.of(response));
+
+        Assertions.assertThat(service.findProjectedById(ID_FOUND)).isSameAs(response);
+    }
+
+    @Test
+    @DisplayName("findProjectedById() Serves repeated lookups from the cache until the anime is updated")
+    @Order(3)
+    void findProjectedById_ServesFromCache_UntilAnimeIsUpdated() {
+
+        var response = new AnimeGetResponse(ID_FOUND, "Bleach", 0L);
+        var animeToUpdate = animeUtils.animeFound();
+
+        BDDMockito.when(repository.findProjectedById(ID_FOUND)).thenReturn(Optional.of(response));
+        BDDMockito.when(repository.updateById(ID_FOUND, animeToUpdate.getVersion(), animeToUpdate.getName())).thenReturn(1);
+
+        service.findProjectedById(ID_FOUND);
+        service.findProjectedById(ID_FOUND);
+        BDDMockito.verify(repository, BDDMockito.times(1)).findProjectedById(ID_FOUND);
+
+        service.update(animeToUpdate);
+        service.findProjectedById(ID_FOUND);
+        BDDMockito.verify(repository, BDDMockito.times(2)).findProjectedById(ID_FOUND);
+    }
+
+    @Test
+    @DisplayName("findProjectedById() Throws NotFoundException when anime is not found")
+    @Order(3)
+    void findProjectedById_ThrowsNotFoundException_WhenAnimeIsNotFound() {
+
+        BDDMockito.when(repository.findProjectedById(ID_FOUND)).thenReturn(Optional.empty());
+
+        Assertions.assertThatException()
+                .isThrownBy(() -> service.findProjectedById(ID_FOUND))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("saveAll() Flushes and clears the persistence context once per insert batch")
+    @Order(5)
+    void saveAll_FlushesOncePerBatch_WhenSuccessful() {
+
+        var animesToSave = new ArrayList<Anime>();
+        for (int i = 0; i < 120; i++) animesToSave.add(Anime.builder().name("Anime " + i).build());
+
+        var animesSaved = service.saveAll(animesToSave);
+
+        Assertions.assertThat(animesSaved).isSameAs(animesToSave);
+
+        BDDMockito.verify(repository, BDDMockito.times(3)).saveAll(ArgumentMatchers.anyList());
+
+        BDDMockito.verify(entityManager, BDDMockito.times(3)).flush();
+
+        BDDMockito.verify(entityManager, BDDMockito.times(3)).clear();
+    }
+
+    @Test
+    @DisplayName("deleteAllById() Returns the number of deleted animes")
+    @Order(8)
+    void deleteAllById_ReturnsAffectedRows_WhenSuccessful() {
+
+        var ids = List.of(1L, 2L, 1000L);
+
+        BDDMockito.when(bulkStatements.deleteByIds(Anime.class, ids)).thenReturn(2);
+
+        Assertions.assertThat(service.deleteAllById(ids)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("renameAll() Sends every new name keyed by anime id")
+    @Order(10)
+    void renameAll_ReturnsAffectedRows_WhenSuccessful() {
+
+        var animesToRename = List.of(Anime.builder().id(1L).name("One Punch Man 2").build(), Anime.builder().id(3L).name("Bleach TYBW").build());
+
+        BDDMockito.when(bulkStatements.updateByIds(Anime.class, "name", Map.of(1L, "One Punch Man 2", 3L, "Bleach TYBW"))).thenReturn(2);
+
+        Assertions.assertThat(service.renameAll(animesToRename)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("forEach() Hands every streamed anime to the action and detaches it")
+    @Order(1)
+    void forEach_VisitsAndDetachesEveryAnime_WhenSuccessful() {
+
+        BDDMockito.when(repository.streamAll()).thenReturn(this.animes.stream());
+
+        var visited = new ArrayList<Anime>();
+
+        service.forEach(visited::add);
+
+        Assertions.assertThat(visited).containsExactlyElementsOf(this.animes);
+
+        this.animes.forEach(anime -> BDDMockito.verify(entityManager).detach(anime));
+    }
+
+    @Test
+    @DisplayName("findSlice() Return a slice of animes without counting them")
+    @Order(1)
+    void findSlice_ReturnAnimesSlice_WhenSuccessful() {
+
+        var pageRequest = PageRequest.of(0, 2);
+
+        BDDMockito.when(repository.findAllBy(pageRequest)).thenReturn(new SliceImpl<>(this.animes.subList(0, 2), pageRequest, true));
+
+        var slice = service.findSlice(pageRequest);
+
+        Assertions.assertThat(slice.getContent()).containsExactlyElementsOf(this.animes.subList(0, 2));
+
+        Assertions.assertThat(slice.hasNext()).isTrue();
+
+        BDDMockito.verify(repository, BDDMockito.never()).count();
+    }
+
+    @Test
+    @DisplayName("findAll() Return a keyset page and the token of the next page")
+    @Order(1)
+    void findAll_ReturnKeysetPageWithNextToken_WhenMoreAnimesExist() {
+
+        BDDMockito.when(repository.findPageAfterId(0L, PageRequest.ofSize(3))).thenReturn(this.animes.subList(0, 3));
+
+        var page = service.findAll(null, AnimeCursor.SortKey.ID, 2);
+
+        Assertions.assertThat(page.content()).containsExactlyElementsOf(this.animes.subList(0, 2));
+
+        Assertions.assertThat(AnimeCursor.decode(page.next())).isEqualTo(new AnimeCursor(AnimeCursor.SortKey.ID, "", 2L));
+    }
+
+    @Test
+    @DisplayName("findAll() Seeks after the name and id carried by the token")
+    @Order(1)
+    void findAll_SeeksAfterNameAndId_WhenTokenIsSortedByName() {
+
+        var cursor = AnimeCursor.after(AnimeCursor.SortKey.NAME, animeUtils.animeFound().getName(), animeUtils.animeFound().getId()).encode();
+
+        BDDMockito.when(repository.findPageAfterName("Bleach", 3L, PageRequest.ofSize(3))).thenReturn(this.animes.subList(3, 4));
+
+        var page = service.findAll(cursor, AnimeCursor.SortKey.ID, 2);
+
+        Assertions.assertThat(page.content()).containsExactly(this.animes.get(3));
+
+        Assertions.assertThat(page.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("findAll() Throws InvalidCursorException when the token is not valid")
+    @Order(1)
+    void findAll_ThrowsInvalidCursorException_WhenTokenIsInvalid() {
+
+        Assertions.assertThatException()
+                .isThrownBy(() -> service.findAll("not-a-cursor", AnimeCursor.SortKey.ID, 2))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
     @Test
     @DisplayName("findAll() Return a list with found animes when 'name' is not null")
     @Order(2)
@@ -199,15 +378,13 @@ class AnimeServiceTest {
 
         var animeToUpdate = animeUtils.animeFound();
 
-        BDDMockito.when(repository.findById(ID_FOUND)).thenReturn(Optional.of(animeToUpdate));
+        animeToUpdate.setVersion(2L);
 
-        BDDMockito.when(repository.save(animeToUpdate)).thenReturn(animeToUpdate);
-
-        service.update(animeToUpdate);
+        BDDMockito.when(repository.updateById(ID_FOUND, 2L, animeToUpdate.getName())).thenReturn(1);
 
         Assertions.assertThatNoException().isThrownBy(() -> service.update(animeToUpdate));
 
-
+        BDDMockito.verify(repository, BDDMockito.never()).findById(ID_FOUND);
     }
 
     @Test
@@ -217,12 +394,32 @@ class AnimeServiceTest {
 
         var animeToUpdate = animeUtils.animeFound();
 
-        BDDMockito.when(repository.findById(ID_FOUND)).thenReturn(Optional.empty());
+        BDDMockito.when(repository.updateById(ID_FOUND, animeToUpdate.getVersion(), animeToUpdate.getName())).thenReturn(0);
+
+        BDDMockito.when(repository.existsById(ID_FOUND)).thenReturn(false);
 
         Assertions.assertThatException()
                 .isThrownBy(() -> service.update(animeToUpdate))
                 .isInstanceOf(NotFoundException.class);
     }
 
+    @Test
+    @DisplayName("update() Throws PreconditionFailedException when the anime was modified since it was read")
+    @Order(10)
+    void update_ThrowsPreconditionFailedException_WhenVersionIsStale() {
+
+        var animeToUpdate = animeUtils.animeFound();
+
+        animeToUpdate.setVersion(1L);
+
+        BDDMockito.when(repository.updateById(ID_FOUND, 1L, animeToUpdate.getName())).thenReturn(0);
+
+        BDDMockito.when(repository.existsById(ID_FOUND)).thenReturn(true);
+
+        Assertions.assertThatException()
+                .isThrownBy(() -> service.update(animeToUpdate))
+                .isInstanceOf(PreconditionFailedException.class);
+    }
+
 
 }
\ No newline at end of file
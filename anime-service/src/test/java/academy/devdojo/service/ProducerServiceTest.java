@@ -1,18 +1,22 @@
 package academy.devdojo.service;
 
+import academy.devdojo.cache.LookupCache;
 import academy.devdojo.commons.ProducerUtils;
 import academy.devdojo.domain.Producer;
 import academy.devdojo.exception.NotFoundException;
 import academy.devdojo.repository.ProducerRepository;
+import academy.devdojo.response.ProducerGetResponse;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -30,6 +34,8 @@ class ProducerServiceTest {
     private ProducerUtils producerUtils;
     @Mock
     private ProducerRepository repository;
+    @Spy
+    private LookupCache<ProducerGetResponse> cache = new LookupCache<>("producers", 100, Duration.ofMinutes(1), ProducerGetResponse::getId);
 
     @BeforeEach
     void init() {
@@ -130,6 +136,25 @@ class ProducerServiceTest {
                 .isInstanceOf(NotFoundException.class);
     }
 
+    @Test
+    @DisplayName("findProjectedByName() Serves repeated lookups from the cache until the producer is deleted")
+    void findProjectedByName_ServesFromCache_UntilProducerIsDeleted() {
+
+        var producerFound = producers.get(2);
+        var response = new ProducerGetResponse(producerFound.getId(), producerFound.getName(), 0L);
+
+        BDDMockito.when(repository.findProjectedByName(producerFound.getName())).thenReturn(Optional.of(response));
+        BDDMockito.when(repository.findById(producerFound.getId())).thenReturn(Optional.of(producerFound));
+
+        Assertions.assertThat(service.findProjectedByName(producerFound.getName())).isSameAs(response);
+        Assertions.assertThat(service.findProjectedByName(producerFound.getName())).isSameAs(response);
+        BDDMockito.verify(repository, BDDMockito.times(1)).findProjectedByName(producerFound.getName());
+
+        service.delete(producerFound.getId());
+        service.findProjectedByName(producerFound.getName());
+        BDDMockito.verify(repository, BDDMockito.times(2)).findProjectedByName(producerFound.getName());
+    }
+
     @Test
     @DisplayName("save() Create a producer")
     @Order(6)
@@ -182,11 +207,7 @@ class ProducerServiceTest {
 
         producerToUpdate.setName("Update Test");
 
-        BDDMockito.when(repository.findById(ID_FOUND)).thenReturn(Optional.of(producerToUpdate));
-
-        BDDMockito.when(repository.save(producerToUpdate)).thenReturn(producerToUpdate);
-
-        service.update(producerToUpdate);
+        BDDMockito.when(repository.updateById(producerToUpdate.getId(), producerToUpdate.getVersion(), "Update Test")).thenReturn(1);
 
         Assertions.assertThatNoException().isThrownBy(() -> service.update(producerToUpdate));
 
@@ -201,7 +222,9 @@ class ProducerServiceTest {
 
         producerToUpdate.setName("Update Test");
 
-        BDDMockito.when(repository.findById(ID_FOUND)).thenReturn(Optional.empty());
+        BDDMockito.when(repository.updateById(producerToUpdate.getId(), producerToUpdate.getVersion(), "Update Test")).thenReturn(0);
+
+        BDDMockito.when(repository.existsById(producerToUpdate.getId())).thenReturn(false);
 
         Assertions.assertThatException()
                 .isThrownBy(() -> service.update(producerToUpdate))
@@ -0,0 +1,127 @@
+package academy.devdojo.benchmark;
+
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * user-015: rows per second of the two ways animes reach the database, replayed as the JDBC calls Hibernate makes.
+ * <ul>
+ *     <li>{@code savePerRow}: looping over {@code AnimeService.save} with {@code IDENTITY} ids, one auto-committed
+ *     insert per row that reads its generated key back.</li>
+ *     <li>{@code saveBatched}: the batch endpoint, one transaction that takes 50 ids from the generator table per
+ *     UPDATE and sends the inserts in JDBC batches of 50.</li>
+ * </ul>
+ * Runs on an in-memory H2 reached over a loopback TCP server, so every statement pays a round trip, unless
+ * {@code -Dbenchmark.jdbc.url} (and {@code .username}, {@code .password}) point at MySQL; add
+ * {@code rewriteBatchedStatements=true} there, as the service does. H2 sends a batch one statement at a time, so only
+ * MySQL shows what the multi-row rewrite saves.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchInsertBenchmark {
+    private static final int ROWS = 1_000;
+    private static final int BATCH_SIZE = 50;
+
+    private Server server;
+    private Connection connection;
+    private long nextRow;
+
+    @Setup
+    public void createTables() throws SQLException {
+        var url = System.getProperty("benchmark.jdbc.url");
+        if (url == null) {
+            server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+            url = "jdbc:h2:tcp://localhost:%d/mem:benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1".formatted(server.getPort());
+        }
+        connection = DriverManager.getConnection(url,
+                System.getProperty("benchmark.jdbc.username", "sa"),
+                System.getProperty("benchmark.jdbc.password", ""));
+        try (var statement = connection.createStatement()) {
+            statement.execute("drop table if exists benchmark_anime");
+            statement.execute("drop table if exists benchmark_id_generator");
+            statement.execute("create table benchmark_anime (id bigint not null auto_increment, name varchar(255) not null, " +
+                    "version bigint not null, primary key (id))");
+            statement.execute("create table benchmark_id_generator (next_val bigint not null)");
+            statement.execute("insert into benchmark_id_generator values (1)");
+        }
+    }
+
+    @TearDown
+    public void dropTables() throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.execute("drop table benchmark_anime");
+            statement.execute("drop table benchmark_id_generator");
+        }
+        connection.close();
+        if (server != null) server.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long savePerRow() throws SQLException {
+        connection.setAutoCommit(true);
+        long lastId = 0;
+        try (var insert = connection.prepareStatement("insert into benchmark_anime (name, version) values (?, 0)",
+                Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < ROWS; i++) {
+                insert.setString(1, "Anime " + nextRow++);
+                insert.executeUpdate();
+                try (var keys = insert.getGeneratedKeys()) {
+                    if (keys.next()) lastId = keys.getLong(1);
+                }
+            }
+        }
+        return lastId;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long saveBatched() throws SQLException {
+        connection.setAutoCommit(false);
+        long id = 0;
+        try (var allocate = connection.prepareStatement("update benchmark_id_generator set next_val = next_val + ?");
+             var read = connection.prepareStatement("select next_val from benchmark_id_generator");
+             var insert = connection.prepareStatement("insert into benchmark_anime (id, name, version) values (?, ?, 0)")) {
+            for (int chunk = 0; chunk < ROWS; chunk += BATCH_SIZE) {
+                allocate.setInt(1, BATCH_SIZE);
+                allocate.executeUpdate();
+                try (var next = read.executeQuery()) {
+                    next.next();
+                    id = next.getLong(1) - BATCH_SIZE;
+                }
+                for (int i = 0; i < BATCH_SIZE; i++) {
+                    insert.setLong(1, id++);
+                    insert.setString(2, "Anime " + nextRow++);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        }
+        return id;
+    }
+}
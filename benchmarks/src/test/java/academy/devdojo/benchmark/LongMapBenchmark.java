@@ -0,0 +1,81 @@
+package academy.devdojo.benchmark;
+
+import academy.devdojo.store.LongObjectHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * user-004: lookups and inserts of the primitive-keyed {@link LongObjectHashMap} against {@code HashMap<Long, V>}.
+ * The fill benchmarks insert 4096 keys into an empty map whatever the size. Run with {@code -prof gc} to compare the
+ * allocation per insert; {@link LongMapFootprint} compares the retained heap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LongMapBenchmark {
+    private static final int LOOKUPS = 1 << 12;
+    private static final Object VALUE = new Object();
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    private LongObjectHashMap<Object> primitiveMap;
+    private HashMap<Long, Object> boxedMap;
+    private long[] keys;
+    private int next;
+
+    @Setup
+    public void fill() {
+        primitiveMap = new LongObjectHashMap<>();
+        boxedMap = new HashMap<>();
+        for (long key = 1; key <= size; key++) {
+            primitiveMap.put(key, VALUE);
+            boxedMap.put(key, VALUE);
+        }
+        keys = new SplittableRandom(42).longs(LOOKUPS, 1, size + 1L).toArray();
+    }
+
+    @Benchmark
+    public Object primitiveGet() {
+        return primitiveMap.get(nextKey());
+    }
+
+    @Benchmark
+    public Object boxedGet() {
+        return boxedMap.get(nextKey());
+    }
+
+    @Benchmark
+    public LongObjectHashMap<Object> primitiveFill() {
+        var map = new LongObjectHashMap<>();
+        for (long key = 1; key <= LOOKUPS; key++) map.put(key, VALUE);
+        return map;
+    }
+
+    @Benchmark
+    public HashMap<Long, Object> boxedFill() {
+        var map = new HashMap<Long, Object>();
+        for (long key = 1; key <= LOOKUPS; key++) map.put(key, VALUE);
+        return map;
+    }
+
+    private long nextKey() {
+        return keys[next++ & (LOOKUPS - 1)];
+    }
+}
@@ -0,0 +1,32 @@
+package academy.devdojo.benchmark;
+
+import academy.devdojo.store.LongObjectHashMap;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.HashMap;
+
+/**
+ * user-004: retained heap per entry of {@link LongObjectHashMap} and {@code HashMap<Long, V>}, measured with JOL. The
+ * shared value is excluded, so only what the index itself costs is counted. Run with
+ * {@code -Dbenchmark.main=academy.devdojo.benchmark.LongMapFootprint}.
+ */
+public class LongMapFootprint {
+    private static final Object VALUE = new Object();
+
+    public static void main(String[] args) {
+        for (var size : new int[]{10_000, 1_000_000}) {
+            var primitiveMap = new LongObjectHashMap<>();
+            var boxedMap = new HashMap<Long, Object>();
+            for (long key = 1; key <= size; key++) {
+                primitiveMap.put(key, VALUE);
+                boxedMap.put(key, VALUE);
+            }
+
+            var valueBytes = GraphLayout.parseInstance(VALUE).totalSize();
+            var primitiveBytes = GraphLayout.parseInstance(primitiveMap).totalSize() - valueBytes;
+            var boxedBytes = GraphLayout.parseInstance(boxedMap).totalSize() - valueBytes;
+            System.out.printf("%,d entries: LongObjectHashMap %.1f bytes/entry, HashMap<Long, V> %.1f bytes/entry%n",
+                    size, (double) primitiveBytes / size, (double) boxedBytes / size);
+        }
+    }
+}
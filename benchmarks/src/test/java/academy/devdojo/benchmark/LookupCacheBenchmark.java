@@ -0,0 +1,118 @@
+package academy.devdojo.benchmark;
+
+import academy.devdojo.cache.LookupCache;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * user-017: database round trips per lookup with and without {@link LookupCache} under a Zipf-distributed read
+ * workload over 100k rows (exponent 1, so a few rows take most reads). The loader stands in for the repository and
+ * counts its calls; the {@code roundTrips} counter divided by {@code lookups} is the share of reads reaching MySQL.
+ * {@code writePercent} of the operations update a row and invalidate it, as the services do after a save.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LookupCacheBenchmark {
+    private static final int ROWS = 100_000;
+    private static final int SAMPLES = 1 << 16;
+    private static final long CACHE_SIZE = 10_000;
+
+    @Param({"0", "1"})
+    private int writePercent;
+
+    private LookupCache<Row> cache;
+    private long[] ids;
+    private boolean[] writes;
+    private int next;
+
+    @Setup
+    public void createWorkload() {
+        cache = new LookupCache<>("rows", CACHE_SIZE, Duration.ofMinutes(10), Row::id);
+        var random = new SplittableRandom(42);
+        var zipf = zipfCumulativeWeights();
+        ids = new long[SAMPLES];
+        writes = new boolean[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            ids[i] = rankOf(zipf, random.nextDouble()) + 1;
+            writes[i] = random.nextInt(100) < writePercent;
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        public long lookups;
+        public long roundTrips;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            lookups = 0;
+            roundTrips = 0;
+        }
+
+        private Row load(Long id) {
+            roundTrips++;
+            return new Row(id, "Row " + id);
+        }
+    }
+
+    @Benchmark
+    public Row uncached(Counters counters) {
+        var sample = next++ & (SAMPLES - 1);
+        counters.lookups++;
+        return counters.load(ids[sample]);
+    }
+
+    @Benchmark
+    public Row cached(Counters counters) {
+        var sample = next++ & (SAMPLES - 1);
+        var id = ids[sample];
+        if (writes[sample]) cache.invalidate(id);
+        counters.lookups++;
+        return cache.findById(id, counters::load);
+    }
+
+    private static double[] zipfCumulativeWeights() {
+        var cumulative = new double[ROWS];
+        var total = 0.0;
+        for (int rank = 0; rank < ROWS; rank++) {
+            total += 1.0 / (rank + 1);
+            cumulative[rank] = total;
+        }
+        for (int rank = 0; rank < ROWS; rank++) cumulative[rank] /= total;
+        return cumulative;
+    }
+
+    private static int rankOf(double[] cumulative, double probability) {
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            var middle = (low + high) >>> 1;
+            if (cumulative[middle] < probability) low = middle + 1;
+            else high = middle;
+        }
+        return low;
+    }
+
+    public record Row(Long id, String name) {
+    }
+}
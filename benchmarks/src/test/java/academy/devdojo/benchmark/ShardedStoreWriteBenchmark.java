@@ -0,0 +1,92 @@
+package academy.devdojo.benchmark;
+
+import academy.devdojo.store.EntityStore;
+import academy.devdojo.store.InMemoryStore;
+import academy.devdojo.store.ShardedInMemoryStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * user-009: save throughput of one {@link InMemoryStore} against a 16-way {@link ShardedInMemoryStore} with 1, 4, 8
+ * and 16 writer threads. Each thread overwrites its own range of ids, so the stores stay the same size and writers
+ * only meet on the locks. Scaling needs as many cores as writers; on fewer cores the numbers only show lock overhead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShardedStoreWriteBenchmark {
+    private static final int IDS_PER_WRITER = 1 << 14;
+    private static final int SHARDS = 16;
+
+    @Param({"single", "sharded"})
+    private String layout;
+
+    private EntityStore<Row> store;
+
+    @Setup
+    public void createStore() {
+        store = layout.equals("single")
+                ? new InMemoryStore<>(Row::id)
+                : new ShardedInMemoryStore<>(SHARDS, Row::id, () -> new InMemoryStore<>(Row::id));
+    }
+
+    @State(Scope.Thread)
+    public static class Writer {
+        private static final AtomicInteger WRITERS = new AtomicInteger();
+        private long firstId;
+        private int next;
+
+        @Setup
+        public void claimIds() {
+            firstId = (long) WRITERS.getAndIncrement() * IDS_PER_WRITER + 1;
+        }
+
+        private Row nextRow() {
+            var id = firstId + (next++ & (IDS_PER_WRITER - 1));
+            return new Row(id, "Row " + id);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Row save1(Writer writer) {
+        return store.save(writer.nextRow());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Row save4(Writer writer) {
+        return store.save(writer.nextRow());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Row save8(Writer writer) {
+        return store.save(writer.nextRow());
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Row save16(Writer writer) {
+        return store.save(writer.nextRow());
+    }
+
+    public record Row(Long id, String name) {
+    }
+}
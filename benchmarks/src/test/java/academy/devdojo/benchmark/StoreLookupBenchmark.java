@@ -0,0 +1,74 @@
+package academy.devdojo.benchmark;
+
+import academy.devdojo.store.InMemoryStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * user-001: {@code findById} latency of the id-indexed store as it grows from 1k to 1M rows, next to the list scan the
+ * hard-coded repositories used before. The store should stay flat while the scan grows linearly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StoreLookupBenchmark {
+    private static final int LOOKUPS = 1 << 12;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private InMemoryStore<Row> store;
+    private List<Row> list;
+    private long[] ids;
+    private int next;
+
+    @Setup
+    public void fill() {
+        store = new InMemoryStore<>(Row::id);
+        list = new ArrayList<>(size);
+        LongStream.rangeClosed(1, size).mapToObj(id -> new Row(id, "Row " + id)).forEach(row -> {
+            store.save(row);
+            list.add(row);
+        });
+
+        var random = new SplittableRandom(42);
+        ids = random.longs(LOOKUPS, 1, size + 1L).toArray();
+    }
+
+    @Benchmark
+    public Optional<Row> indexedFindById() {
+        return store.findById(nextId());
+    }
+
+    @Benchmark
+    public Optional<Row> scanningFindById() {
+        Long id = nextId();
+        return list.stream().filter(row -> row.id().equals(id)).findFirst();
+    }
+
+    private long nextId() {
+        return ids[next++ & (LOOKUPS - 1)];
+    }
+
+    public record Row(Long id, String name) {
+    }
+}
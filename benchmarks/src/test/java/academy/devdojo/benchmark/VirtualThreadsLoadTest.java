@@ -0,0 +1,145 @@
+package academy.devdojo.benchmark;
+
+import academy.devdojo.concurrent.VirtualThreadsConfiguration;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.startup.Tomcat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * user-024: throughput and p99 latency of an embedded Tomcat on its default 200-thread pool against the same Tomcat
+ * on {@link VirtualThreadsConfiguration}'s virtual-thread executor. Each burst sends {@code load.clients} concurrent
+ * requests to a handler that blocks on an artificially slow datasource: it takes one of {@code load.connections}
+ * permits, like a connection pool, and sleeps {@code load.queryMillis}. Zero connections means no pool cap. Each mode
+ * runs one unmeasured burst first. Run with {@code -Dbenchmark.main=academy.devdojo.benchmark.VirtualThreadsLoadTest}.
+ */
+public class VirtualThreadsLoadTest {
+    private static final int CLIENTS = Integer.getInteger("load.clients", 5_000);
+    private static final int QUERY_MILLIS = Integer.getInteger("load.queryMillis", 100);
+    private static final int CONNECTIONS = Integer.getInteger("load.connections", 0);
+
+    public static void main(String[] args) throws Exception {
+        System.out.printf("%,d clients, %d ms queries, %s connections%n",
+                CLIENTS, QUERY_MILLIS, CONNECTIONS == 0 ? "unbounded" : CONNECTIONS);
+        for (var virtual : new boolean[]{false, true}) {
+            try (var server = new SlowServer(virtual); var clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                var client = HttpClient.newBuilder().executor(clients).version(HttpClient.Version.HTTP_1_1).build();
+                burst(client, clients, server.uri());
+                var result = burst(client, clients, server.uri());
+                System.out.printf("%-16s %,8.0f req/s  p50 %,6d ms  p99 %,6d ms  max %,6d ms  failed %d%n",
+                        virtual ? "virtual threads" : "platform (200)", result.throughput(),
+                        result.percentile(50), result.percentile(99), result.percentile(100), result.failed());
+            }
+        }
+    }
+
+    private static Result burst(HttpClient client, ExecutorService clients, URI uri) throws InterruptedException {
+        var request = HttpRequest.newBuilder(uri).timeout(Duration.ofMinutes(2)).build();
+        var latencies = new long[CLIENTS];
+        var failed = new AtomicInteger();
+        var start = new CountDownLatch(1);
+        var done = new CountDownLatch(CLIENTS);
+
+        for (int i = 0; i < CLIENTS; i++) {
+            var slot = i;
+            clients.execute(() -> {
+                try {
+                    start.await();
+                    var sent = System.nanoTime();
+                    var response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    latencies[slot] = System.nanoTime() - sent;
+                    if (response.statusCode() != 200) failed.incrementAndGet();
+                } catch (IOException | InterruptedException e) {
+                    failed.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        var began = System.nanoTime();
+        start.countDown();
+        done.await();
+        return new Result(latencies, System.nanoTime() - began, failed.get());
+    }
+
+    private record Result(long[] latencies, long elapsedNanos, int failed) {
+
+        private Result {
+            Arrays.sort(latencies);
+        }
+
+        double throughput() {
+            return latencies.length * 1e9 / elapsedNanos;
+        }
+
+        long percentile(int percentile) {
+            var index = Math.max((int) Math.ceil(latencies.length * percentile / 100.0) - 1, 0);
+            return latencies[index] / 1_000_000;
+        }
+    }
+
+    private static final class SlowServer implements AutoCloseable {
+        private final Tomcat tomcat = new Tomcat();
+        private final ExecutorService executor;
+
+        private SlowServer(boolean virtual) throws Exception {
+            tomcat.setBaseDir(Files.createTempDirectory("tomcat").toString());
+            tomcat.setPort(0);
+            var connector = tomcat.getConnector();
+            executor = virtual ? new VirtualThreadsConfiguration().httpVirtualThreadExecutor() : null;
+            if (executor != null) connector.getProtocolHandler().setExecutor(executor);
+
+            var context = tomcat.addContext("", null);
+            Tomcat.addServlet(context, "slow", new SlowDatasourceServlet());
+            context.addServletMappingDecoded("/slow", "slow");
+            tomcat.start();
+        }
+
+        URI uri() {
+            return URI.create("http://localhost:%d/slow".formatted(tomcat.getConnector().getLocalPort()));
+        }
+
+        @Override
+        public void close() throws Exception {
+            tomcat.stop();
+            tomcat.destroy();
+            if (executor != null) executor.close();
+        }
+    }
+
+    private static final class SlowDatasourceServlet extends HttpServlet {
+        private final Semaphore connections = new Semaphore(CONNECTIONS == 0 ? Integer.MAX_VALUE : CONNECTIONS, true);
+
+        @Override
+        protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            try {
+                connections.acquire();
+                try {
+                    Thread.sleep(QUERY_MILLIS);
+                } finally {
+                    connections.release();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                return;
+            }
+            response.getWriter().write("ok");
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package academy.devdojo.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public class InvalidCursorException extends ResponseStatusException {
+    public InvalidCursorException(String message) {
+        super(HttpStatus.BAD_REQUEST, message);
+    }
+}
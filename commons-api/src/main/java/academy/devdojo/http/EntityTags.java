@@ -0,0 +1,43 @@
+package academy.devdojo.http;
+
+import academy.devdojo.exception.PreconditionFailedException;
+
+/**
+ * Maps an entity's {@code @Version} to a strong ETag and back from an {@code If-Match} header.
+ * <p>
+ * {@code If-Match} uses strong comparison, so weak tags never match. A list of tags is not supported either: the
+ * update can only be conditioned on one version.
+ */
+public final class EntityTags {
+    private static final String ANY = "*";
+    private static final String QUOTE = "\"";
+
+    private EntityTags() {
+    }
+
+    public static String of(Long version) {
+        return version == null ? null : QUOTE + version + QUOTE;
+    }
+
+    /**
+     * @return the version the client expects, or {@code null} when the header is absent or {@code *}
+     * @throws PreconditionFailedException when the header holds a tag this service could not have issued
+     */
+    public static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) return null;
+
+        var tag = ifMatch.strip();
+        if (tag.equals(ANY)) return null;
+        if (tag.length() < 3 || !tag.startsWith(QUOTE) || !tag.endsWith(QUOTE)) throw unmatched(ifMatch);
+
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw unmatched(ifMatch);
+        }
+    }
+
+    private static PreconditionFailedException unmatched(String ifMatch) {
+        return new PreconditionFailedException("If-Match '%s' does not match the current version".formatted(ifMatch));
+    }
+}
@@ -0,0 +1,32 @@
+package academy.devdojo.http;
+
+import academy.devdojo.exception.PreconditionFailedException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class EntityTagsTest {
+
+    @Test
+    @DisplayName("expectedVersion() reads back the version of a tag built by of()")
+    void expectedVersion_ReturnsVersion_WhenTagWasIssuedByOf() {
+        Assertions.assertThat(EntityTags.expectedVersion(EntityTags.of(7L))).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("expectedVersion() returns null when the header is absent or '*'")
+    void expectedVersion_ReturnsNull_WhenAnyVersionMatches() {
+        Assertions.assertThat(EntityTags.expectedVersion(null)).isNull();
+        Assertions.assertThat(EntityTags.expectedVersion(" * ")).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"W/\"7\"", "7", "\"seven\"", "\"7\", \"8\"", "\""})
+    @DisplayName("expectedVersion() throws PreconditionFailedException for weak, unquoted, foreign or listed tags")
+    void expectedVersion_ThrowsPreconditionFailedException_WhenTagCannotMatch(String ifMatch) {
+        Assertions.assertThatExceptionOfType(PreconditionFailedException.class)
+                .isThrownBy(() -> EntityTags.expectedVersion(ifMatch));
+    }
+}
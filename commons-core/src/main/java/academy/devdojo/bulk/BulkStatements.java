@@ -0,0 +1,103 @@
+package academy.devdojo.bulk;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Set-based delete and update statements keyed by id. Id lists are split into chunks of {@value #CHUNK_SIZE} so a
+ * huge list costs one statement per chunk instead of one or two round trips per id.
+ * <p>
+ * The statements bypass the persistence context: pending changes are flushed before and the context is cleared
+ * after, so no stale managed entity survives the call. Callers must run inside a transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class BulkStatements {
+    static final int CHUNK_SIZE = 1000;
+    private static final String ID = "id";
+
+    private final EntityManager entityManager;
+
+    public int deleteByIds(Class<?> entityType, Collection<Long> ids) {
+        entityManager.flush();
+
+        var affected = 0;
+        for (var chunk : chunks(List.copyOf(ids))) affected += deleteChunk(entityType, chunk);
+
+        entityManager.clear();
+        return affected;
+    }
+
+    /**
+     * Sets {@code attribute} of every given id to its own value with a single {@code CASE id WHEN ...} per chunk.
+     * The version of a versioned entity is bumped too, so a conditional update still holding the old version fails.
+     */
+    public int updateByIds(Class<?> entityType, String attribute, Map<Long, ?> valuesById) {
+        entityManager.flush();
+
+        var affected = 0;
+        for (var chunk : chunks(List.copyOf(valuesById.keySet()))) {
+            var chunkValues = new LinkedHashMap<Long, Object>();
+            chunk.forEach(id -> chunkValues.put(id, valuesById.get(id)));
+            affected += updateChunk(entityType, attribute, chunkValues);
+        }
+
+        entityManager.clear();
+        return affected;
+    }
+
+    private <T> int deleteChunk(Class<T> entityType, List<Long> ids) {
+        var criteriaBuilder = entityManager.getCriteriaBuilder();
+        var delete = criteriaBuilder.createCriteriaDelete(entityType);
+        var root = delete.from(entityType);
+        delete.where(root.get(ID).in(ids));
+        return entityManager.createQuery(delete).executeUpdate();
+    }
+
+    private <T> int updateChunk(Class<T> entityType, String attribute, Map<Long, Object> valuesById) {
+        var criteriaBuilder = entityManager.getCriteriaBuilder();
+        var update = criteriaBuilder.createCriteriaUpdate(entityType);
+        var root = update.from(entityType);
+        Path<Long> id = root.get(ID);
+        Path<Object> target = root.get(attribute);
+
+        CriteriaBuilder.SimpleCase<Long, Object> valueById = criteriaBuilder.selectCase(id);
+        valuesById.forEach(valueById::when);
+        valueById.otherwise(target);
+
+        assign(update, target, valueById);
+        var entity = entityManager.getMetamodel().entity(entityType);
+        if (entity.hasVersionAttribute()) {
+            Path<Long> version = root.get(entity.getVersion(Long.class));
+            update.set(version, criteriaBuilder.sum(version, 1L));
+        }
+        update.where(id.in(valuesById.keySet()));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    /**
+     * Pins {@code set} to its expression overload; with an {@code Object} path the value overload matches too.
+     */
+    private static <Y> void assign(CriteriaUpdate<?> update, Path<Y> path, Expression<? extends Y> value) {
+        update.set(path, value);
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids) {
+        var chunks = new ArrayList<List<Long>>();
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size())));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,4 @@
+package academy.devdojo.cache;
+
+public record CacheRegionStats(String region, long hitCount, long missCount, long putCount) {
+}
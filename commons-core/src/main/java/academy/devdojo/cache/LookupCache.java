@@ -0,0 +1,143 @@
+package academy.devdojo.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * Bounded, expiring cache in front of by-id and by-name lookups of one entity type.
+ * <p>
+ * Both views are evicted by size and by time since write. Only found values are cached; a loader that throws
+ * (for example with {@code NotFoundException}) leaves nothing behind. Writers call {@link #invalidate} with the ids
+ * they touched and any names they wrote, which removes the id entry, the new names, and every name entry that still
+ * points at one of those ids; the latter are found through an id to names reverse map, so a write never scans the
+ * cache. Inside a transaction the eviction is repeated after commit, so a reader that reloaded the old row before the
+ * commit cannot leave it cached.
+ * <p>
+ * A name lookup only learns the id once its loader returns, so an eviction can run while it is in flight and miss it.
+ * Every eviction therefore stamps the ids and names it touched with a new sequence number (in a fixed array of
+ * stripes), and a name loader only stores its row if neither its name nor its id was stamped after the load began.
+ */
+public class LookupCache<V> {
+    private static final int STRIPES = 1_024;
+
+    private final String name;
+    private final Function<V, Long> idExtractor;
+    private final Cache<Long, V> byId;
+    private final Cache<String, V> byName;
+    private final Map<Long, Set<String>> namesById = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLongArray invalidatedAt = new AtomicLongArray(STRIPES);
+
+    public LookupCache(String name, long maximumSize, Duration timeToLive, Function<V, Long> idExtractor) {
+        this.name = name;
+        this.idExtractor = idExtractor;
+        this.byId = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(timeToLive).recordStats().build();
+        this.byName = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(timeToLive).recordStats()
+                .<String, V>evictionListener((key, value, cause) -> {
+                    if (key != null && value != null) forgetName(idExtractor.apply(value), key);
+                })
+                .build();
+    }
+
+    public V findById(Long id, Function<Long, V> loader) {
+        return id == null ? loader.apply(null) : byId.get(id, loader);
+    }
+
+    public V findByName(String name, Function<String, V> loader) {
+        if (name == null) return loader.apply(null);
+        var cached = byName.getIfPresent(name);
+        if (cached != null) return cached;
+
+        var loadedAt = sequence.get();
+        var value = loader.apply(name);
+        if (value == null) return null;
+
+        var id = idExtractor.apply(value);
+        namesById.computeIfAbsent(id, key -> ConcurrentHashMap.newKeySet()).add(name);
+        // Evictions remove names inside the same map bin, so they either see this entry or stamp before the check.
+        byName.asMap().compute(name, (key, current) -> {
+            if (isInvalidatedSince(loadedAt, key, id)) return current;
+            if (current != null && !id.equals(idExtractor.apply(current))) forgetName(idExtractor.apply(current), key);
+            return value;
+        });
+        return value;
+    }
+
+    public void invalidate(Long id, String... names) {
+        invalidate(Collections.singletonList(id), Arrays.asList(names));
+    }
+
+    public void invalidate(Collection<Long> ids, Collection<String> names) {
+        var idList = ids.stream().filter(Objects::nonNull).distinct().toList();
+        var nameList = names.stream().filter(Objects::nonNull).toList();
+        evict(idList, nameList);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(idList, nameList);
+            }
+        });
+    }
+
+    public LookupCacheStats stats() {
+        var idStats = byId.stats();
+        var nameStats = byName.stats();
+        return new LookupCacheStats(name,
+                idStats.hitCount() + nameStats.hitCount(),
+                idStats.missCount() + nameStats.missCount(),
+                idStats.evictionCount() + nameStats.evictionCount(),
+                byId.estimatedSize() + byName.estimatedSize());
+    }
+
+    private void evict(List<Long> ids, List<String> names) {
+        var stamp = sequence.incrementAndGet();
+        ids.forEach(id -> invalidatedAt.accumulateAndGet(stripe(id), stamp, Math::max));
+        names.forEach(key -> invalidatedAt.accumulateAndGet(stripe(key), stamp, Math::max));
+
+        byId.invalidateAll(ids);
+        names.forEach(key -> {
+            var removed = byName.asMap().remove(key);
+            if (removed != null) forgetName(idExtractor.apply(removed), key);
+        });
+        ids.forEach(id -> {
+            var idNames = namesById.remove(id);
+            if (idNames == null) return;
+            // A name may have moved to another id since it was registered here; only drop it if it still points here.
+            idNames.forEach(key -> byName.asMap().computeIfPresent(key,
+                    (k, value) -> id.equals(idExtractor.apply(value)) ? null : value));
+        });
+    }
+
+    private boolean isInvalidatedSince(long loadedAt, String key, Long id) {
+        return invalidatedAt.get(stripe(key)) > loadedAt || invalidatedAt.get(stripe(id)) > loadedAt;
+    }
+
+    private void forgetName(Long id, String key) {
+        namesById.computeIfPresent(id, (k, idNames) -> {
+            idNames.remove(key);
+            return idNames.isEmpty() ? null : idNames;
+        });
+    }
+
+    private static int stripe(Object key) {
+        var hash = key.hashCode() * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+}
@@ -0,0 +1,9 @@
+package academy.devdojo.cache;
+
+public record LookupCacheStats(String name, long hitCount, long missCount, long evictionCount, long size) {
+
+    public double hitRate() {
+        var requests = hitCount + missCount;
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+}
@@ -0,0 +1,48 @@
+package academy.devdojo.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Reads the Hibernate second-level and query cache counters. They are only collected while
+ * {@code hibernate.generate_statistics} is enabled; otherwise every counter reads zero.
+ */
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheStatistics {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public SecondLevelCacheStats stats() {
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        var regions = Stream.concat(Arrays.stream(statistics.getSecondLevelCacheRegionNames()),
+                        Stream.of(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME))
+                .distinct()
+                .map(region -> regionStats(statistics, region))
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new SecondLevelCacheStats(statistics.getPrepareStatementCount(),
+                statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(),
+                statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount(),
+                regions);
+    }
+
+    private static CacheRegionStats regionStats(Statistics statistics, String region) {
+        var regionStatistics = statistics.getCacheRegionStatistics(region);
+        if (regionStatistics == null) return null;
+
+        return new CacheRegionStats(region, regionStatistics.getHitCount(), regionStatistics.getMissCount(), regionStatistics.getPutCount());
+    }
+}
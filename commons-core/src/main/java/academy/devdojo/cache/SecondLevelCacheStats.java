@@ -0,0 +1,15 @@
+package academy.devdojo.cache;
+
+import java.util.List;
+
+/**
+ * Hibernate counters since startup. {@code prepareStatementCount} is the number of SQL statements sent to the
+ * database; sampling it around a request shows how many the second-level and query caches saved.
+ */
+public record SecondLevelCacheStats(long prepareStatementCount,
+                                    long secondLevelCacheHitCount,
+                                    long secondLevelCacheMissCount,
+                                    long queryCacheHitCount,
+                                    long queryCacheMissCount,
+                                    List<CacheRegionStats> regions) {
+}
@@ -0,0 +1,13 @@
+package academy.devdojo.concurrent;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * {@code @Async} methods run on the {@code applicationTaskExecutor}: Spring Boot's platform-thread pool by default,
+ * virtual threads when {@link VirtualThreadsConfiguration} is enabled.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfiguration {
+}
@@ -0,0 +1,54 @@
+package academy.devdojo.concurrent;
+
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs Tomcat request handling and {@code @Async} methods on one virtual thread per task instead of the bounded
+ * platform-thread pools. A request blocked on JDBC then parks its virtual thread rather than holding one of Tomcat's
+ * workers; database concurrency is still capped by the connection pool, so the excess waits for a connection instead
+ * of in Tomcat's accept queue. Off unless {@code virtual-threads.enabled} is true.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "virtual-threads", name = "enabled", havingValue = "true")
+public class VirtualThreadsConfiguration {
+
+    /**
+     * The executors are beans so the context closes them on shutdown: {@code close()} stops accepting tasks and waits
+     * for the running ones, after Tomcat has already stopped handing out requests.
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService httpVirtualThreadExecutor() {
+        return virtualThreadPerTask("http-vt-");
+    }
+
+    @Bean(destroyMethod = "close")
+    public ExecutorService taskVirtualThreadExecutor() {
+        return virtualThreadPerTask("task-vt-");
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadsProtocolHandlerCustomizer(ExecutorService httpVirtualThreadExecutor) {
+        return protocolHandler -> protocolHandler.setExecutor(httpVirtualThreadExecutor);
+    }
+
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public AsyncTaskExecutor applicationTaskExecutor(ExecutorService taskVirtualThreadExecutor) {
+        return new TaskExecutorAdapter(taskVirtualThreadExecutor);
+    }
+
+    private static ExecutorService virtualThreadPerTask(String namePrefix) {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(namePrefix, 0).factory());
+    }
+}
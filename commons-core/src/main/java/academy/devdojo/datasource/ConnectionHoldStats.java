@@ -0,0 +1,4 @@
+package academy.devdojo.datasource;
+
+public record ConnectionHoldStats(String endpoint, long count, long totalMillis, long maxMillis) {
+}
@@ -0,0 +1,64 @@
+package academy.devdojo.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Instruments every Hikari pool in the context, including the replica pools behind a
+ * {@link ReplicaRoutingDataSource}, unless the pool already reports to another metrics registry. Pools register
+ * themselves when they start, so a pool that has not served a connection yet is not listed.
+ */
+@Component
+public class ConnectionPoolMetrics implements MetricsTrackerFactory, BeanPostProcessor {
+
+    private final Duration saturationThreshold;
+    private final Duration reportInterval;
+    private final Map<String, PoolMetricsTracker> trackers = new ConcurrentHashMap<>();
+
+    public ConnectionPoolMetrics(@Value("${connection-pool-metrics.saturation-threshold:50ms}") Duration saturationThreshold,
+                                 @Value("${connection-pool-metrics.report-interval:1m}") Duration reportInterval) {
+        this.saturationThreshold = saturationThreshold;
+        this.reportInterval = reportInterval;
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        var tracker = new PoolMetricsTracker(poolName, poolStats, saturationThreshold, reportInterval);
+        trackers.put(poolName, tracker);
+        return tracker;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource pool) instrument(pool);
+        if (bean instanceof ReplicaRoutingDataSource routing) {
+            routing.targets().values().forEach(target -> {
+                if (target instanceof HikariDataSource pool) instrument(pool);
+            });
+        }
+        return bean;
+    }
+
+    public List<ConnectionPoolStats> stats() {
+        return trackers.values().stream()
+                .map(PoolMetricsTracker::stats)
+                .sorted(Comparator.comparing(ConnectionPoolStats::pool))
+                .toList();
+    }
+
+    private void instrument(HikariDataSource pool) {
+        if (pool.getMetricsTrackerFactory() != null || pool.getMetricRegistry() != null) return;
+        pool.setMetricsTrackerFactory(this);
+    }
+}
@@ -0,0 +1,9 @@
+package academy.devdojo.datasource;
+
+import java.util.List;
+
+public record ConnectionPoolStats(String pool, int active, int idle, int pending, int total, int max,
+                                  long timeouts, long saturations,
+                                  LatencyHistogramStats acquire, LatencyHistogramStats usage,
+                                  List<ConnectionHoldStats> holders) {
+}
@@ -0,0 +1,7 @@
+package academy.devdojo.datasource;
+
+/**
+ * Values up to {@code upperBoundMillis} and above the previous bucket; the overflow bucket has no upper bound.
+ */
+public record HistogramBucket(Double upperBoundMillis, long count) {
+}
@@ -0,0 +1,68 @@
+package academy.devdojo.datasource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram over fixed buckets from 100 µs to 30 s plus an overflow bucket. Percentiles are read
+ * as the upper bound of the bucket they fall in, capped by the largest recorded value.
+ */
+final class LatencyHistogram {
+    private static final long[] UPPER_BOUNDS_MICROS = {100, 250, 500, 1_000, 2_500, 5_000, 10_000, 25_000, 50_000,
+            100_000, 250_000, 500_000, 1_000_000, 2_500_000, 5_000_000, 10_000_000, 30_000_000};
+
+    private final AtomicLongArray counts = new AtomicLongArray(UPPER_BOUNDS_MICROS.length + 1);
+    private final LongAdder sumMicros = new LongAdder();
+    private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+
+    void record(long micros) {
+        var value = Math.max(micros, 0);
+        var index = Arrays.binarySearch(UPPER_BOUNDS_MICROS, value);
+        counts.incrementAndGet(index >= 0 ? index : -index - 1);
+        sumMicros.add(value);
+        maxMicros.accumulate(value);
+    }
+
+    LatencyHistogramStats stats() {
+        var snapshot = new long[counts.length()];
+        var count = 0L;
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+        var max = maxMicros.get();
+
+        var buckets = new ArrayList<HistogramBucket>(snapshot.length);
+        for (int i = 0; i < snapshot.length; i++) {
+            var upperBound = i < UPPER_BOUNDS_MICROS.length ? millis(UPPER_BOUNDS_MICROS[i]) : null;
+            buckets.add(new HistogramBucket(upperBound, snapshot[i]));
+        }
+
+        var mean = count == 0 ? 0 : millis(sumMicros.sum()) / count;
+        return new LatencyHistogramStats(count, mean,
+                percentile(snapshot, count, max, 0.50),
+                percentile(snapshot, count, max, 0.95),
+                percentile(snapshot, count, max, 0.99),
+                millis(max),
+                buckets);
+    }
+
+    private static double percentile(long[] snapshot, long count, long max, double quantile) {
+        if (count == 0) return 0;
+
+        var rank = (long) Math.ceil(quantile * count);
+        var cumulative = 0L;
+        for (int i = 0; i < UPPER_BOUNDS_MICROS.length; i++) {
+            cumulative += snapshot[i];
+            if (cumulative >= rank) return millis(Math.min(UPPER_BOUNDS_MICROS[i], max));
+        }
+        return millis(max);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
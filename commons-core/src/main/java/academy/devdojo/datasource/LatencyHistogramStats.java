@@ -0,0 +1,7 @@
+package academy.devdojo.datasource;
+
+import java.util.List;
+
+public record LatencyHistogramStats(long count, double meanMillis, double p50Millis, double p95Millis, double p99Millis,
+                                    double maxMillis, List<HistogramBucket> buckets) {
+}
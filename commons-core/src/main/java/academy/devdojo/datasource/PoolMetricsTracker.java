@@ -0,0 +1,129 @@
+package academy.devdojo.datasource;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.PoolStats;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Metrics of one Hikari pool. Connection usage is charged to the controller endpoint that returned the connection,
+ * so when an acquisition waits longer than {@code saturationThreshold} or times out the report names the endpoints
+ * that held connections longest since the previous report. Reports are logged at most once per
+ * {@code reportInterval}.
+ */
+@Log4j2
+final class PoolMetricsTracker implements IMetricsTracker {
+    static final String OUTSIDE_REQUEST = "(outside request)";
+    private static final String UNMAPPED = "(unmapped)";
+    private static final int REPORTED_HOLDERS = 3;
+
+    private final String pool;
+    private final PoolStats poolStats;
+    private final long saturationThresholdNanos;
+    private final Duration reportInterval;
+    private final LatencyHistogram acquire = new LatencyHistogram();
+    private final LatencyHistogram usage = new LatencyHistogram();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder saturations = new LongAdder();
+    private final AtomicLong nextReportNanos = new AtomicLong(System.nanoTime());
+    private final ConcurrentMap<String, ConnectionHolds> holdsByEndpoint = new ConcurrentHashMap<>();
+
+    PoolMetricsTracker(String pool, PoolStats poolStats, Duration saturationThreshold, Duration reportInterval) {
+        this.pool = pool;
+        this.poolStats = poolStats;
+        this.saturationThresholdNanos = saturationThreshold.toNanos();
+        this.reportInterval = reportInterval;
+    }
+
+    @Override
+    public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+        acquire.record(TimeUnit.NANOSECONDS.toMicros(elapsedAcquiredNanos));
+        if (elapsedAcquiredNanos >= saturationThresholdNanos) {
+            saturated("waited %d ms for a connection".formatted(TimeUnit.NANOSECONDS.toMillis(elapsedAcquiredNanos)));
+        }
+    }
+
+    @Override
+    public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+        usage.record(TimeUnit.MILLISECONDS.toMicros(elapsedBorrowedMillis));
+        holdsByEndpoint.computeIfAbsent(currentEndpoint(), endpoint -> new ConnectionHolds()).record(elapsedBorrowedMillis);
+    }
+
+    @Override
+    public void recordConnectionTimeout() {
+        timeouts.increment();
+        saturated("timed out waiting for a connection");
+    }
+
+    ConnectionPoolStats stats() {
+        return new ConnectionPoolStats(pool,
+                poolStats.getActiveConnections(),
+                poolStats.getIdleConnections(),
+                poolStats.getPendingThreads(),
+                poolStats.getTotalConnections(),
+                poolStats.getMaxConnections(),
+                timeouts.sum(),
+                saturations.sum(),
+                acquire.stats(),
+                usage.stats(),
+                holders().toList());
+    }
+
+    private void saturated(String cause) {
+        saturations.increment();
+        var now = System.nanoTime();
+        var next = nextReportNanos.get();
+        if (now - next < 0 || !nextReportNanos.compareAndSet(next, now + reportInterval.toNanos())) return;
+
+        var holders = holders().limit(REPORTED_HOLDERS)
+                .map(hold -> "%s held %d ms over %d uses (max %d ms)".formatted(hold.endpoint(), hold.totalMillis(), hold.count(), hold.maxMillis()))
+                .collect(Collectors.joining("; "));
+        log.warn("Connection pool '{}' saturated, a caller {}: active {}/{}, idle {}, pending {}. Longest holders since the last report: {}",
+                pool, cause, poolStats.getActiveConnections(), poolStats.getMaxConnections(), poolStats.getIdleConnections(),
+                poolStats.getPendingThreads(), holders.isEmpty() ? "none" : holders);
+        holdsByEndpoint.clear();
+    }
+
+    private Stream<ConnectionHoldStats> holders() {
+        return holdsByEndpoint.entrySet().stream()
+                .map(entry -> entry.getValue().stats(entry.getKey()))
+                .sorted(Comparator.comparingLong(ConnectionHoldStats::totalMillis).reversed());
+    }
+
+    private static String currentEndpoint() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) return OUTSIDE_REQUEST;
+
+        var request = attributes.getRequest();
+        var pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern == null ? UNMAPPED : pattern);
+    }
+
+    private static final class ConnectionHolds {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalMillis = new LongAdder();
+        private final LongAccumulator maxMillis = new LongAccumulator(Math::max, 0);
+
+        private void record(long millis) {
+            count.increment();
+            totalMillis.add(millis);
+            maxMillis.accumulate(millis);
+        }
+
+        private ConnectionHoldStats stats(String endpoint) {
+            return new ConnectionHoldStats(endpoint, count.sum(), totalMillis.sum(), maxMillis.get());
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package academy.devdojo.datasource;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * Per-request read-your-writes session.
+ * <p>
+ * Every commit on the primary hands the client a {@value #HEADER} holding the commit time. A client that sends it
+ * back has its reads kept on the primary for {@code window} after that commit, long enough for the replicas to have
+ * applied it. The token is a time, not a replication position, so the window must cover the worst replica lag the
+ * deployment tolerates.
+ */
+public final class ReadYourWrites {
+    public static final String HEADER = "X-Consistency-Token";
+    private static final ThreadLocal<Session> SESSION = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    static void open(String token, Duration window, Consumer<String> tokenSink) {
+        var session = new Session(window, tokenSink);
+        session.pinUntil(parse(token));
+        SESSION.set(session);
+    }
+
+    static void close() {
+        SESSION.remove();
+    }
+
+    static boolean pinnedToPrimary() {
+        var session = SESSION.get();
+        return session != null && System.currentTimeMillis() < session.pinnedUntil;
+    }
+
+    /**
+     * Issues a new token once the current read-write transaction commits. Connections taken outside a transaction
+     * (plain repository reads) or by a transaction that rolls back issue none.
+     */
+    static void recordWrite() {
+        var session = SESSION.get();
+        if (session == null || !TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                session.written(System.currentTimeMillis());
+            }
+        });
+    }
+
+    private static long parse(String token) {
+        if (token == null || token.isBlank()) return 0;
+        try {
+            return Long.parseLong(token.strip());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static final class Session {
+        private final Duration window;
+        private final Consumer<String> tokenSink;
+        private long pinnedUntil;
+
+        private Session(Duration window, Consumer<String> tokenSink) {
+            this.window = window;
+            this.tokenSink = tokenSink;
+        }
+
+        private void pinUntil(long writtenAt) {
+            pinnedUntil = writtenAt == 0 ? 0 : writtenAt + window.toMillis();
+        }
+
+        private void written(long writtenAt) {
+            pinUntil(writtenAt);
+            tokenSink.accept(String.valueOf(writtenAt));
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package academy.devdojo.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+@RequiredArgsConstructor
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    private final Duration window;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ReadYourWrites.open(request.getHeader(ReadYourWrites.HEADER), window, token -> response.setHeader(ReadYourWrites.HEADER, token));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.close();
+        }
+    }
+}
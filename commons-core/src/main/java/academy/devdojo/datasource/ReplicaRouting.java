@@ -0,0 +1,29 @@
+package academy.devdojo.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Lets a caller keep a read on the primary even inside a read-only transaction, for reads whose result outlives the
+ * request (for example values put in a cache) and so must not come from a lagging replica.
+ */
+public final class ReplicaRouting {
+    private static final ThreadLocal<Integer> PRIMARY_DEPTH = ThreadLocal.withInitial(() -> 0);
+
+    private ReplicaRouting() {
+    }
+
+    public static <T> T onPrimary(Supplier<T> read) {
+        PRIMARY_DEPTH.set(PRIMARY_DEPTH.get() + 1);
+        try {
+            return read.get();
+        } finally {
+            var depth = PRIMARY_DEPTH.get() - 1;
+            if (depth == 0) PRIMARY_DEPTH.remove();
+            else PRIMARY_DEPTH.set(depth);
+        }
+    }
+
+    static boolean pinnedToPrimary() {
+        return PRIMARY_DEPTH.get() > 0 || ReadYourWrites.pinnedToPrimary();
+    }
+}
@@ -0,0 +1,66 @@
+package academy.devdojo.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+
+/**
+ * Replaces the auto-configured data source with a primary pool, one pool per configured replica and a
+ * {@link ReplicaRoutingDataSource} in front of them. Off unless {@code datasource-routing.enabled} is true.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource-routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaRoutingProperties.class)
+public class ReplicaRoutingConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        var primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        return primary;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource, DataSourceProperties properties,
+                                                             ReplicaRoutingProperties routing) {
+        var replicas = new LinkedHashMap<String, DataSource>();
+        for (var replica : routing.getReplicas()) {
+            var name = "replica-" + replicas.size();
+            var pool = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(replica.getUrl())
+                    .username(Objects.requireNonNullElse(replica.getUsername(), properties.determineUsername()))
+                    .password(Objects.requireNonNullElse(replica.getPassword(), properties.determinePassword()))
+                    .build();
+            pool.setPoolName(name);
+            pool.setReadOnly(true);
+            pool.setConnectionTimeout(routing.getReplicaConnectionTimeout().toMillis());
+            pool.setMaximumPoolSize(primaryDataSource.getMaximumPoolSize());
+            replicas.put(name, pool);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, routing.getReplicaRetryAfter());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(ReplicaRoutingProperties routing) {
+        return new ReadYourWritesFilter(routing.getReadYourWritesWindow());
+    }
+}
@@ -0,0 +1,106 @@
+package academy.devdojo.datasource;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends connections requested inside read-only transactions to a replica and everything else to the primary.
+ * <p>
+ * Must sit behind a {@link LazyConnectionDataSourceProxy}: transaction managers fetch their connection before the
+ * read-only flag is bound, the proxy defers the fetch to the first statement. Replicas are taken round robin. A
+ * replica that refuses a connection is skipped for {@code retryAfter} and the read moves on to the next one, then to
+ * the primary. Reads stay on the primary while {@link ReplicaRouting} pins the current thread, and a connection taken
+ * by a read-write transaction issues a {@link ReadYourWrites} token once that transaction commits.
+ */
+@Log4j2
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+    public static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Duration retryAfter;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration retryAfter) {
+        this.primary = primary;
+        this.replicas = replicas.entrySet().stream().map(replica -> new Replica(replica.getKey(), replica.getValue())).toList();
+        this.retryAfter = retryAfter;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connection(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connection(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    /**
+     * The primary and every replica by name, for instrumentation.
+     */
+    public Map<String, DataSource> targets() {
+        var targets = new LinkedHashMap<String, DataSource>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach(replica -> targets.put(replica.name, replica.dataSource));
+        return Collections.unmodifiableMap(targets);
+    }
+
+    private Connection connection(ConnectionFactory factory) throws SQLException {
+        var readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        if (!readOnly) ReadYourWrites.recordWrite();
+        if (!readOnly || replicas.isEmpty() || ReplicaRouting.pinnedToPrimary()) return factory.connect(primary);
+
+        var start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            var replica = replicas.get((start + i) % replicas.size());
+            if (!replica.isAvailable()) continue;
+            try {
+                return factory.connect(replica.dataSource);
+            } catch (SQLException e) {
+                replica.markDown(retryAfter);
+                log.warn("Replica '{}' refused a connection, reading from the next one for {}", replica.name, retryAfter, e);
+            }
+        }
+        return factory.connect(primary);
+    }
+
+    @FunctionalInterface
+    private interface ConnectionFactory {
+        Connection connect(DataSource dataSource) throws SQLException;
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile long downUntilNanos;
+        private volatile boolean down;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        private boolean isAvailable() {
+            return !down || System.nanoTime() - downUntilNanos >= 0;
+        }
+
+        private void markDown(Duration retryAfter) {
+            downUntilNanos = System.nanoTime() + retryAfter.toNanos();
+            down = true;
+        }
+    }
+}
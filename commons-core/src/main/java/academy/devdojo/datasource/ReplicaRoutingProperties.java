@@ -0,0 +1,37 @@
+package academy.devdojo.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties("datasource-routing")
+public class ReplicaRoutingProperties {
+    private boolean enabled;
+    private List<Replica> replicas = new ArrayList<>();
+    /**
+     * How long reads stay on the primary after a write the client has seen; must cover the worst replica lag.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(2);
+    /**
+     * How long a replica that refused a connection is skipped.
+     */
+    private Duration replicaRetryAfter = Duration.ofSeconds(10);
+    /**
+     * Connection timeout of the replica pools, kept short so a dead replica falls back quickly.
+     */
+    private Duration replicaConnectionTimeout = Duration.ofSeconds(1);
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
@@ -0,0 +1,26 @@
+package academy.devdojo.store;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Operations the hard-coded repositories run against their in-memory data.
+ */
+public interface EntityStore<T> {
+
+    List<T> findAll();
+
+    Optional<T> findById(Long id);
+
+    List<T> findBy(String indexName, String key);
+
+    T save(T value);
+
+    boolean replace(T value);
+
+    boolean replace(T value, long expectedVersion);
+
+    void deleteById(Long id);
+
+    long versionOf(Long id);
+}
@@ -0,0 +1,123 @@
+package academy.devdojo.store;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Open-addressing multimap from the hash of an index key to the ids whose value carries that key.
+ * <p>
+ * Only the hash is kept, in an {@code int} next to the primitive id, so an entry costs twelve bytes and no object;
+ * callers resolve hash collisions by comparing the key of the value they load. Zero marks a free slot, so a key whose
+ * hash is zero is stored under one. Entries with the same hash sit in one probe run, deletion shifts the run back,
+ * and reads racing a writer see a whole table and probe a bounded number of slots, like {@link LongObjectHashMap}.
+ */
+final class HashedKeyIndex {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.7f;
+
+    private Table table = new Table(DEFAULT_CAPACITY);
+    private int size;
+    private int resizeThreshold = (int) (DEFAULT_CAPACITY * LOAD_FACTOR);
+
+    int size() {
+        return size;
+    }
+
+    void add(String key, long id) {
+        var hash = hash(key);
+        var current = table;
+        var mask = current.hashes.length - 1;
+        var slot = slot(hash, mask);
+
+        while (current.hashes[slot] != 0) slot = (slot + 1) & mask;
+        current.hashes[slot] = hash;
+        current.ids[slot] = id;
+        if (++size >= resizeThreshold) resize(current.hashes.length << 1);
+    }
+
+    void remove(String key, long id) {
+        var hash = hash(key);
+        var hashes = table.hashes;
+        var ids = table.ids;
+        var mask = hashes.length - 1;
+        var slot = slot(hash, mask);
+
+        while (hashes[slot] != 0) {
+            if (hashes[slot] == hash && ids[slot] == id) {
+                hashes[slot] = 0;
+                size--;
+                shiftBack(slot, hashes, ids, mask);
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Hands every id stored under {@code key}'s hash to {@code action}; ids of colliding keys are included.
+     */
+    void forEachCandidate(String key, LongConsumer action) {
+        var hash = hash(key);
+        var current = table;
+        var hashes = current.hashes;
+        var ids = current.ids;
+        var mask = hashes.length - 1;
+        var slot = slot(hash, mask);
+
+        for (int probes = 0; probes <= mask && hashes[slot] != 0; probes++) {
+            if (hashes[slot] == hash) action.accept(ids[slot]);
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void shiftBack(int hole, int[] hashes, long[] ids, int mask) {
+        var next = (hole + 1) & mask;
+        while (hashes[next] != 0) {
+            var ideal = slot(hashes[next], mask);
+            if (((next - ideal) & mask) >= ((next - hole) & mask)) {
+                hashes[hole] = hashes[next];
+                ids[hole] = ids[next];
+                hashes[next] = 0;
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+    }
+
+    private void resize(int capacity) {
+        var old = table;
+        var resized = new Table(capacity);
+        var mask = capacity - 1;
+
+        for (int i = 0; i < old.hashes.length; i++) {
+            if (old.hashes[i] == 0) continue;
+            var slot = slot(old.hashes[i], mask);
+            while (resized.hashes[slot] != 0) slot = (slot + 1) & mask;
+            resized.hashes[slot] = old.hashes[i];
+            resized.ids[slot] = old.ids[i];
+        }
+
+        table = resized;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int hash(String key) {
+        var hash = key.hashCode();
+        return hash == 0 ? 1 : hash;
+    }
+
+    private static int slot(int hash, int mask) {
+        var spread = hash * 0x9E3779B9;
+        return (spread ^ (spread >>> 16)) & mask;
+    }
+
+    private static final class Table {
+        private final int[] hashes;
+        private final long[] ids;
+
+        private Table(int capacity) {
+            this.hashes = new int[capacity];
+            this.ids = new long[capacity];
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package academy.devdojo.store;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out ids from a shared atomic sequence in blocks reserved per thread.
+ * <p>
+ * A thread only touches the shared counter once every {@code blockSize} ids, so concurrent inserts do not contend on
+ * it. Ids are unique but only increase per thread; blocks abandoned by idle threads leave gaps.
+ */
+public class IdAllocator {
+
+    private static final int DEFAULT_BLOCK_SIZE = 64;
+
+    private final AtomicLong nextUnreserved;
+    private final int blockSize;
+    private final ThreadLocal<Block> blocks = ThreadLocal.withInitial(Block::new);
+
+    public IdAllocator() {
+        this(0, DEFAULT_BLOCK_SIZE);
+    }
+
+    public IdAllocator(long lastId, int blockSize) {
+        if (blockSize < 1) throw new IllegalArgumentException("blockSize must be positive");
+        this.nextUnreserved = new AtomicLong(lastId + 1);
+        this.blockSize = blockSize;
+    }
+
+    public long nextId() {
+        var block = blocks.get();
+        if (block.next == block.end) {
+            block.next = nextUnreserved.getAndAdd(blockSize);
+            block.end = block.next + blockSize;
+        }
+        return block.next++;
+    }
+
+    public void advancePast(long id) {
+        nextUnreserved.accumulateAndGet(id + 1, Math::max);
+    }
+
+    private static final class Block {
+        private long next;
+        private long end;
+    }
+}
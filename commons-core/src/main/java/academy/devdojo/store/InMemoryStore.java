@@ -0,0 +1,343 @@
+package academy.devdojo.store;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Id-keyed in-memory store used by the hard-coded repositories.
+ * <p>
+ * Values are kept in a {@link RecordStorage}, by default a {@link LongObjectHashMap} keyed by the primitive id.
+ * Lookups by id or by index key use optimistic reads and only fall back to a read lock when they race a writer; an
+ * index keeps primitive (key hash, id) pairs and confirms each candidate against the key of the loaded value.
+ * {@link #findAll()} hands out an immutable snapshot that is rebuilt at most once per write, so readers never copy and
+ * never observe a half-applied write. Writers are serialized and bump the store version on every mutation; each id remembers the
+ * store version of its last write, which {@link #replace(Object, long)} uses as a compare-and-set token. When
+ * {@link #journaledTo journaled}, every mutation is appended to the journal before it is applied and the writer
+ * returns once the journal has synced it. With {@link #generatingIds} a value saved without an id gets the next id
+ * from an {@link IdAllocator} that is kept past every id already stored. A {@link #uniquelyIndexedBy unique index}
+ * is checked under the write lock before anything is journaled or applied, so two writers can never both claim the
+ * same key.
+ */
+public class InMemoryStore<T> implements EntityStore<T> {
+    private static final long ANY_VERSION = -1;
+
+    private final Function<T, Long> idExtractor;
+    private final RecordStorage<T> byId;
+    private final LongLongHashMap versionsById = new LongLongHashMap();
+    private final Map<String, Index<T>> indexes = new ConcurrentHashMap<>();
+    private final StampedLock lock = new StampedLock();
+    private volatile long version;
+    private volatile Snapshot<T> snapshot = new Snapshot<>(0, List.of());
+    private MappedJournal<T> journal;
+    private IdAllocator idAllocator;
+    private BiConsumer<T, Long> idAssigner;
+
+    public InMemoryStore(Function<T, Long> idExtractor) {
+        this(idExtractor, new LongObjectHashMap<>());
+    }
+
+    public InMemoryStore(Function<T, Long> idExtractor, RecordStorage<T> storage) {
+        this.idExtractor = idExtractor;
+        this.byId = storage;
+    }
+
+    public InMemoryStore<T> indexedBy(String indexName, Function<T, String> keyExtractor) {
+        indexes.put(indexName, new Index<>(keyExtractor, false));
+        return this;
+    }
+
+    public InMemoryStore<T> uniquelyIndexedBy(String indexName, Function<T, String> keyExtractor) {
+        indexes.put(indexName, new Index<>(keyExtractor, true));
+        return this;
+    }
+
+    public InMemoryStore<T> generatingIds(BiConsumer<T, Long> idAssigner) {
+        var stamp = lock.writeLock();
+        try {
+            var allocator = new IdAllocator();
+            byId.forEachValue(value -> allocator.advancePast(idExtractor.apply(value)));
+            this.idAllocator = allocator;
+            this.idAssigner = idAssigner;
+            return this;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public InMemoryStore<T> journaledTo(MappedJournal<T> journal) {
+        var stamp = lock.writeLock();
+        try {
+            journal.recover(this::write, this::remove);
+            this.journal = journal;
+            return this;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public List<T> findAll() {
+        var current = snapshot;
+        if (byId.retainsValues() && current.version() == version) return current.values();
+
+        var stamp = lock.readLock();
+        try {
+            if (!byId.retainsValues()) return sortedValues();
+            if (snapshot.version() != version) snapshot = new Snapshot<>(version, sortedValues());
+            return snapshot.values();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public Optional<T> findById(Long id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(get(id));
+    }
+
+    @Override
+    public List<T> findBy(String indexName, String key) {
+        var index = index(indexName);
+        return read(() -> List.copyOf(index.valuesOf(key, byId::get)));
+    }
+
+    @Override
+    public T save(T value) {
+        var generated = idExtractor.apply(value) == null;
+        if (generated) {
+            if (idAllocator == null) throw new IllegalArgumentException("id must not be null");
+            idAssigner.accept(value, idAllocator.nextId());
+        }
+
+        long position;
+        var stamp = lock.writeLock();
+        try {
+            while (generated && byId.get(idExtractor.apply(value)) != null) idAssigner.accept(value, idAllocator.nextId());
+            long id = idExtractor.apply(value);
+            assertUniqueKeysAreFree(id, value);
+            position = journalPut(id, value);
+            write(id, value);
+            compactJournalIfNeeded();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        awaitDurable(position);
+        return value;
+    }
+
+    public boolean insert(T value) {
+        long id = Objects.requireNonNull(idExtractor.apply(value), "id must not be null");
+
+        long position;
+        var stamp = lock.writeLock();
+        try {
+            if (byId.get(id) != null) return false;
+            assertUniqueKeysAreFree(id, value);
+            position = journalPut(id, value);
+            write(id, value);
+            compactJournalIfNeeded();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        awaitDurable(position);
+        return true;
+    }
+
+    @Override
+    public boolean replace(T value) {
+        return compareAndReplace(value, ANY_VERSION);
+    }
+
+    @Override
+    public boolean replace(T value, long expectedVersion) {
+        return compareAndReplace(value, expectedVersion);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        if (id == null) return;
+
+        long position;
+        var stamp = lock.writeLock();
+        try {
+            if (byId.get(id) == null) return;
+            position = journal == null ? 0 : journal.appendDelete(id);
+            remove(id);
+            compactJournalIfNeeded();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        awaitDurable(position);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public boolean cachesSnapshots() {
+        return byId.retainsValues();
+    }
+
+    @Override
+    public long versionOf(Long id) {
+        if (id == null) return 0;
+        long key = id;
+        return readLong(() -> versionsById.get(key));
+    }
+
+    private boolean compareAndReplace(T value, long expectedVersion) {
+        long id = Objects.requireNonNull(idExtractor.apply(value), "id must not be null");
+
+        long position;
+        var stamp = lock.writeLock();
+        try {
+            var currentVersion = versionsById.get(id);
+            if (currentVersion == 0) return false;
+            if (expectedVersion != ANY_VERSION && expectedVersion != currentVersion) return false;
+            assertUniqueKeysAreFree(id, value);
+            position = journalPut(id, value);
+            write(id, value);
+            compactJournalIfNeeded();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        awaitDurable(position);
+        return true;
+    }
+
+    private void assertUniqueKeysAreFree(long id, T value) {
+        indexes.forEach((indexName, index) -> {
+            if (!index.unique) return;
+            var key = index.keyExtractor.apply(value);
+            if (key == null) return;
+            var owners = index.valuesOf(key, byId::get);
+            if (owners.stream().anyMatch(owner -> idExtractor.apply(owner) != id)) throw new UniqueKeyViolationException(indexName, key);
+        });
+    }
+
+    private void write(long id, T value) {
+        var previous = byId.put(id, value);
+        indexes.values().forEach(index -> index.put(id, previous, value));
+        versionsById.put(id, ++version);
+        if (idAllocator != null) idAllocator.advancePast(id);
+    }
+
+    private void remove(long id) {
+        var previous = byId.remove(id);
+        if (previous == null) return;
+        indexes.values().forEach(index -> index.remove(id, previous));
+        versionsById.remove(id);
+        version++;
+    }
+
+    private long journalPut(long id, T value) {
+        return journal == null ? 0 : journal.appendPut(id, value);
+    }
+
+    private void compactJournalIfNeeded() {
+        if (journal != null && journal.shouldCompact()) journal.compact(sortedValues(), idExtractor::apply);
+    }
+
+    private void awaitDurable(long position) {
+        if (position > 0) journal.awaitDurable(position);
+    }
+
+    private List<T> sortedValues() {
+        var values = new ArrayList<T>(byId.size());
+        byId.forEachValue(values::add);
+        values.sort(Comparator.comparing(idExtractor));
+        return List.copyOf(values);
+    }
+
+    private T get(long id) {
+        return read(() -> byId.get(id));
+    }
+
+    // The primitive twin of read(Supplier): versions are polled on every conditional request and must not box.
+    private long readLong(LongSupplier reader) {
+        var stamp = lock.tryOptimisticRead();
+        var result = reader.getAsLong();
+        if (lock.validate(stamp)) return result;
+
+        stamp = lock.readLock();
+        try {
+            return reader.getAsLong();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private <R> R read(Supplier<R> reader) {
+        var stamp = lock.tryOptimisticRead();
+        try {
+            var result = reader.get();
+            if (lock.validate(stamp)) return result;
+        } catch (RuntimeException e) {
+            if (lock.validate(stamp)) throw e;
+        }
+
+        stamp = lock.readLock();
+        try {
+            return reader.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private Index<T> index(String indexName) {
+        var index = indexes.get(indexName);
+        if (index == null) throw new IllegalArgumentException("Unknown index '%s'".formatted(indexName));
+        return index;
+    }
+
+    private record Snapshot<T>(long version, List<T> values) {
+    }
+
+    private static final class Index<T> {
+        private final Function<T, String> keyExtractor;
+        private final boolean unique;
+        private final HashedKeyIndex idsByKey = new HashedKeyIndex();
+
+        private Index(Function<T, String> keyExtractor, boolean unique) {
+            this.keyExtractor = keyExtractor;
+            this.unique = unique;
+        }
+
+        /**
+         * Keys are not kept per id: the writer passes the value being replaced, whose key is the one to drop. An
+         * unchanged key is left alone.
+         */
+        private void put(long id, T previous, T value) {
+            var key = keyExtractor.apply(value);
+            var previousKey = previous == null ? null : keyExtractor.apply(previous);
+            if (Objects.equals(previousKey, key)) return;
+            if (key != null) idsByKey.add(key, id);
+            if (previousKey != null) idsByKey.remove(previousKey, id);
+        }
+
+        private void remove(long id, T previous) {
+            var key = keyExtractor.apply(previous);
+            if (key != null) idsByKey.remove(key, id);
+        }
+
+        private List<T> valuesOf(String key, LongFunction<T> loader) {
+            var values = new ArrayList<T>(1);
+            idsByKey.forEachCandidate(key, id -> {
+                var value = loader.apply(id);
+                if (value != null && key.equals(keyExtractor.apply(value))) values.add(value);
+            });
+            return values;
+        }
+    }
+}
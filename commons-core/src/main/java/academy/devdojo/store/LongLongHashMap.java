@@ -0,0 +1,149 @@
+package academy.devdojo.store;
+
+/**
+ * Open-addressing hash map from primitive {@code long} keys to non-zero primitive {@code long} values.
+ * <p>
+ * The primitive counterpart of {@link LongObjectHashMap}: keys and values live in two parallel {@code long} arrays, so
+ * an entry costs no object at all. Zero marks a free slot, which is why values must not be zero and {@link #get(long)}
+ * returns zero for a missing key. The same probing, backward-shift deletion and racing-read guarantees apply.
+ */
+public class LongLongHashMap {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.7f;
+
+    private Table table;
+    private int size;
+    private int resizeThreshold;
+
+    public LongLongHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongLongHashMap(int expectedSize) {
+        allocate(tableSizeFor((int) Math.ceil(Math.max(expectedSize, 1) / LOAD_FACTOR)));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long get(long key) {
+        var current = table;
+        var keys = current.keys;
+        var values = current.values;
+        var mask = keys.length - 1;
+        var slot = slot(key, mask);
+
+        for (int probes = 0; probes <= mask; probes++) {
+            var value = values[slot];
+            if (value == 0) return 0;
+            if (keys[slot] == key) return value;
+            slot = (slot + 1) & mask;
+        }
+        return 0;
+    }
+
+    public long put(long key, long value) {
+        if (value == 0) throw new IllegalArgumentException("value must not be zero");
+
+        var keys = table.keys;
+        var values = table.values;
+        var mask = keys.length - 1;
+        var slot = slot(key, mask);
+
+        while (values[slot] != 0) {
+            if (keys[slot] == key) {
+                var previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size >= resizeThreshold) resize(keys.length << 1);
+        return 0;
+    }
+
+    public long remove(long key) {
+        var keys = table.keys;
+        var values = table.values;
+        var mask = keys.length - 1;
+        var slot = slot(key, mask);
+
+        while (values[slot] != 0) {
+            if (keys[slot] == key) {
+                var previous = values[slot];
+                values[slot] = 0;
+                size--;
+                shiftBack(slot, keys, values, mask);
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return 0;
+    }
+
+    private void shiftBack(int hole, long[] keys, long[] values, int mask) {
+        var next = (hole + 1) & mask;
+        while (values[next] != 0) {
+            var ideal = slot(keys[next], mask);
+            if (((next - ideal) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                values[next] = 0;
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+    }
+
+    private void resize(int capacity) {
+        var oldKeys = table.keys;
+        var oldValues = table.values;
+        var resized = new Table(capacity);
+        var mask = capacity - 1;
+
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] == 0) continue;
+            var slot = slot(oldKeys[i], mask);
+            while (resized.values[slot] != 0) slot = (slot + 1) & mask;
+            resized.keys[slot] = oldKeys[i];
+            resized.values[slot] = oldValues[i];
+        }
+
+        table = resized;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void allocate(int capacity) {
+        table = new Table(capacity);
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int slot(long key, int mask) {
+        var hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        var size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        return Math.max(size, 2);
+    }
+
+    private static final class Table {
+        private final long[] keys;
+        private final long[] values;
+
+        private Table(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new long[capacity];
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package academy.devdojo.store;
+
+import java.util.function.Consumer;
+
+/**
+ * Open-addressing hash map from primitive {@code long} keys to non-null values.
+ * <p>
+ * Keys and values live in two parallel arrays probed linearly, so there is no boxed key and no node object per
+ * entry. Removal uses backward-shift deletion instead of tombstones. The map is not thread-safe; {@link #get(long)}
+ * never throws nor loops forever when racing a writer, which lets callers read it optimistically and validate.
+ */
+public class LongObjectHashMap<V> implements RecordStorage<V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.7f;
+
+    private Table table;
+    private int size;
+    private int resizeThreshold;
+
+    public LongObjectHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongObjectHashMap(int expectedSize) {
+        allocate(tableSizeFor((int) Math.ceil(Math.max(expectedSize, 1) / LOAD_FACTOR)));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V get(long key) {
+        var current = table;
+        var keys = current.keys;
+        var values = current.values;
+        var mask = keys.length - 1;
+        var slot = slot(key, mask);
+
+        for (int probes = 0; probes <= mask; probes++) {
+            var value = values[slot];
+            if (value == null) return null;
+            if (keys[slot] == key) return (V) value;
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V put(long key, V value) {
+        if (value == null) throw new IllegalArgumentException("value must not be null");
+
+        var keys = table.keys;
+        var values = table.values;
+        var mask = keys.length - 1;
+        var slot = slot(key, mask);
+
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                var previous = (V) values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size >= resizeThreshold) resize(keys.length << 1);
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V remove(long key) {
+        var keys = table.keys;
+        var values = table.values;
+        var mask = keys.length - 1;
+        var slot = slot(key, mask);
+
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                var previous = (V) values[slot];
+                values[slot] = null;
+                size--;
+                shiftBack(slot, keys, values, mask);
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void forEachValue(Consumer<? super V> action) {
+        for (var value : table.values) {
+            if (value != null) action.accept((V) value);
+        }
+    }
+
+    private void shiftBack(int hole, long[] keys, Object[] values, int mask) {
+        var next = (hole + 1) & mask;
+        while (values[next] != null) {
+            var ideal = slot(keys[next], mask);
+            if (((next - ideal) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                values[next] = null;
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+    }
+
+    private void resize(int capacity) {
+        var oldKeys = table.keys;
+        var oldValues = table.values;
+        var resized = new Table(capacity);
+        var mask = capacity - 1;
+
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] == null) continue;
+            var slot = slot(oldKeys[i], mask);
+            while (resized.values[slot] != null) slot = (slot + 1) & mask;
+            resized.keys[slot] = oldKeys[i];
+            resized.values[slot] = oldValues[i];
+        }
+
+        table = resized;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void allocate(int capacity) {
+        table = new Table(capacity);
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int slot(long key, int mask) {
+        var hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        var size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        return Math.max(size, 2);
+    }
+
+    private static final class Table {
+        private final long[] keys;
+        private final Object[] values;
+
+        private Table(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new Object[capacity];
+        }
+    }
+}
@@ -0,0 +1,385 @@
+package academy.devdojo.store;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.function.BiConsumer;
+import java.util.function.LongConsumer;
+import java.util.function.ToLongFunction;
+import java.util.zip.CRC32;
+
+/**
+ * Write-ahead log and snapshot that make an {@link InMemoryStore} survive restarts.
+ * <p>
+ * Mutations are appended as CRC-checked frames to a memory-mapped log file. A background flusher forces the mapped
+ * pages to disk and wakes every writer whose frame it covered, so writers arriving while a force is in flight share
+ * the next one (group commit). Once the log outgrows the last snapshot, {@link #compact} writes every live value to a
+ * new mapped snapshot, swaps it in atomically and restarts the log under a new generation; a log whose generation
+ * does not match the snapshot is fully contained in it and is skipped on recovery. Recovery stops at the first torn
+ * or corrupt frame and clears everything after it.
+ */
+public class MappedJournal<T> implements Closeable {
+
+    private static final int MAGIC = 0x4A524E4C;
+    private static final int HEADER_SIZE = 16;
+    private static final int FRAME_HEADER_SIZE = 8;
+    private static final int FRAME_FIXED_BODY_SIZE = 9;
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+    private static final byte[] NO_PAYLOAD = new byte[0];
+    private static final byte[] ZEROS = new byte[8 * 1024];
+    private static final String LOG_FILE = "journal.log";
+    private static final String SNAPSHOT_FILE = "snapshot.dat";
+    private static final int INITIAL_LOG_CAPACITY = 1 << 20;
+    private static final long DEFAULT_COMPACTION_THRESHOLD = 64L << 20;
+    private static final Duration DEFAULT_GROUP_COMMIT_WINDOW = Duration.ofMillis(2);
+
+    private final Path directory;
+    private final RecordCodec<T> codec;
+    private final Duration groupCommitWindow;
+    private final long compactionThreshold;
+    private final FileChannel logChannel;
+    private final Object durability = new Object();
+    private final Thread flusher;
+
+    private MappedByteBuffer log;
+    private int logEnd = HEADER_SIZE;
+    private long logBase;
+    private long generation;
+    private long snapshotBytes;
+    private boolean recovered;
+    private long requestedPosition;
+    private long durablePosition;
+    private volatile boolean closed;
+
+    public MappedJournal(Path directory, RecordCodec<T> codec) {
+        this(directory, codec, DEFAULT_GROUP_COMMIT_WINDOW, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public MappedJournal(Path directory, RecordCodec<T> codec, Duration groupCommitWindow, long compactionThreshold) {
+        this.directory = directory;
+        this.codec = codec;
+        this.groupCommitWindow = groupCommitWindow;
+        this.compactionThreshold = compactionThreshold;
+        try {
+            Files.createDirectories(directory);
+            this.logChannel = FileChannel.open(directory.resolve(LOG_FILE),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.log = logChannel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(INITIAL_LOG_CAPACITY, logChannel.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open journal in '%s'".formatted(directory), e);
+        }
+        this.flusher = new Thread(this::flushLoop, "journal-flusher-" + directory.getFileName());
+        this.flusher.setDaemon(true);
+    }
+
+    public synchronized void recover(BiConsumer<Long, T> onPut, LongConsumer onDelete) {
+        if (recovered) throw new IllegalStateException("Journal in '%s' was already recovered".formatted(directory));
+
+        var snapshotGeneration = readSnapshot(onPut);
+        var hasHeader = log.getInt(0) == MAGIC;
+        var logGeneration = hasHeader ? log.getLong(8) : snapshotGeneration;
+
+        if (logGeneration > snapshotGeneration) {
+            throw new IllegalStateException("Journal in '%s' is ahead of its snapshot".formatted(directory));
+        }
+
+        var end = HEADER_SIZE;
+        if (hasHeader && logGeneration == snapshotGeneration) {
+            Frame frame;
+            while ((frame = readFrame(log, end)) != null) {
+                if (frame.type() == PUT) onPut.accept(frame.id(), decode(frame.payload()));
+                else onDelete.accept(frame.id());
+                end = frame.next();
+            }
+        }
+
+        clear(log, end, log.capacity());
+        generation = snapshotGeneration;
+        writeHeader(generation);
+        log.force();
+        logEnd = end;
+        durablePosition = requestedPosition = logBase + logEnd;
+        recovered = true;
+        flusher.start();
+    }
+
+    public long appendPut(long id, T value) {
+        return append(PUT, id, encode(value));
+    }
+
+    public long appendDelete(long id) {
+        return append(DELETE, id, NO_PAYLOAD);
+    }
+
+    public void awaitDurable(long position) {
+        synchronized (durability) {
+            if (position > requestedPosition) {
+                requestedPosition = position;
+                durability.notifyAll();
+            }
+            while (durablePosition < position) {
+                if (closed) throw new IllegalStateException("Journal in '%s' is closed".formatted(directory));
+                try {
+                    durability.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for the journal to sync", e);
+                }
+            }
+        }
+    }
+
+    public synchronized boolean shouldCompact() {
+        return logEnd - HEADER_SIZE > Math.max(compactionThreshold, snapshotBytes * 2);
+    }
+
+    public synchronized void compact(Collection<T> values, ToLongFunction<T> idExtractor) {
+        checkWritable();
+        var nextGeneration = generation + 1;
+        writeSnapshot(values, idExtractor, nextGeneration);
+
+        clear(log, HEADER_SIZE, logEnd);
+        log.force(0, logEnd);
+        writeHeader(nextGeneration);
+        log.force(0, HEADER_SIZE);
+
+        generation = nextGeneration;
+        logBase += logEnd - HEADER_SIZE;
+        logEnd = HEADER_SIZE;
+        markDurable(logBase + logEnd);
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) return;
+            log.force(0, logEnd);
+            markDurable(logBase + logEnd);
+            closed = true;
+        }
+        synchronized (durability) {
+            durability.notifyAll();
+        }
+        try {
+            logChannel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private synchronized long append(byte type, long id, byte[] payload) {
+        checkWritable();
+        var frameSize = FRAME_HEADER_SIZE + FRAME_FIXED_BODY_SIZE + payload.length;
+        ensureLogCapacity(frameSize);
+        logEnd = writeFrame(log, logEnd, type, id, payload);
+        return logBase + logEnd;
+    }
+
+    private void flushLoop() {
+        while (true) {
+            synchronized (durability) {
+                while (!closed && requestedPosition <= durablePosition) {
+                    try {
+                        durability.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (closed) return;
+            }
+            try {
+                if (!groupCommitWindow.isZero()) Thread.sleep(groupCommitWindow.toMillis());
+            } catch (InterruptedException e) {
+                return;
+            }
+            flush();
+        }
+    }
+
+    private void flush() {
+        MappedByteBuffer buffer;
+        int end;
+        long position;
+        synchronized (this) {
+            if (closed) return;
+            buffer = log;
+            end = logEnd;
+            position = logBase + logEnd;
+        }
+        buffer.force(0, end);
+        markDurable(position);
+    }
+
+    private void markDurable(long position) {
+        synchronized (durability) {
+            durablePosition = Math.max(durablePosition, position);
+            requestedPosition = Math.max(requestedPosition, durablePosition);
+            durability.notifyAll();
+        }
+    }
+
+    private void checkWritable() {
+        if (!recovered) throw new IllegalStateException("Journal in '%s' must be recovered first".formatted(directory));
+        if (closed) throw new IllegalStateException("Journal in '%s' is closed".formatted(directory));
+    }
+
+    private void ensureLogCapacity(int frameSize) {
+        if ((long) logEnd + frameSize <= log.capacity()) return;
+
+        var capacity = Math.max((long) log.capacity() << 1, (long) logEnd + frameSize);
+        if (capacity > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Journal in '%s' is full; compaction is overdue".formatted(directory));
+        }
+        try {
+            log = logChannel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeHeader(long headerGeneration) {
+        log.putInt(0, MAGIC);
+        log.putInt(4, 0);
+        log.putLong(8, headerGeneration);
+    }
+
+    private long readSnapshot(BiConsumer<Long, T> onPut) {
+        var snapshotFile = directory.resolve(SNAPSHOT_FILE);
+        if (!Files.exists(snapshotFile)) return 0;
+
+        try (var channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+            var snapshot = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (snapshot.capacity() < HEADER_SIZE || snapshot.getInt(0) != MAGIC) {
+                throw new IllegalStateException("Snapshot in '%s' is corrupted".formatted(directory));
+            }
+            var count = snapshot.getInt(4);
+            var position = HEADER_SIZE;
+            for (int i = 0; i < count; i++) {
+                var frame = readFrame(snapshot, position);
+                if (frame == null) throw new IllegalStateException("Snapshot in '%s' is corrupted".formatted(directory));
+                onPut.accept(frame.id(), decode(frame.payload()));
+                position = frame.next();
+            }
+            snapshotBytes = snapshot.capacity();
+            return snapshot.getLong(8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeSnapshot(Collection<T> values, ToLongFunction<T> idExtractor, long snapshotGeneration) {
+        var ids = new long[values.size()];
+        var payloads = new ArrayList<byte[]>(values.size());
+        long size = HEADER_SIZE;
+        for (var value : values) {
+            ids[payloads.size()] = idExtractor.applyAsLong(value);
+            var payload = encode(value);
+            payloads.add(payload);
+            size += FRAME_HEADER_SIZE + FRAME_FIXED_BODY_SIZE + payload.length;
+        }
+        if (size > Integer.MAX_VALUE) throw new IllegalStateException("Snapshot in '%s' is too large".formatted(directory));
+
+        var temporary = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        try {
+            try (var channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                var snapshot = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                snapshot.putInt(0, MAGIC);
+                snapshot.putInt(4, payloads.size());
+                snapshot.putLong(8, snapshotGeneration);
+                var position = HEADER_SIZE;
+                for (int i = 0; i < ids.length; i++) position = writeFrame(snapshot, position, PUT, ids[i], payloads.get(i));
+                snapshot.force();
+            }
+            Files.move(temporary, directory.resolve(SNAPSHOT_FILE), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            syncDirectory();
+            snapshotBytes = size;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write snapshot in '%s'".formatted(directory), e);
+        }
+    }
+
+    /**
+     * Makes the snapshot rename durable. Until the directory entry is on disk a crash can bring back the previous
+     * snapshot, so the log must not be cleared or moved to the next generation before this returns.
+     */
+    void syncDirectory() throws IOException {
+        try (var channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    private byte[] encode(T value) {
+        var bytes = new ByteArrayOutputStream();
+        try (var output = new DataOutputStream(bytes)) {
+            codec.write(value, output);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private T decode(byte[] payload) {
+        try (var input = new DataInputStream(new ByteArrayInputStream(payload))) {
+            return codec.read(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int writeFrame(ByteBuffer buffer, int position, byte type, long id, byte[] payload) {
+        var bodyLength = FRAME_FIXED_BODY_SIZE + payload.length;
+        var body = position + FRAME_HEADER_SIZE;
+        buffer.put(body, type);
+        buffer.putLong(body + 1, id);
+        buffer.put(body + FRAME_FIXED_BODY_SIZE, payload);
+        buffer.putInt(position + 4, checksum(buffer, body, bodyLength));
+        buffer.putInt(position, bodyLength);
+        return body + bodyLength;
+    }
+
+    private static Frame readFrame(ByteBuffer buffer, int position) {
+        if (position > buffer.capacity() - FRAME_HEADER_SIZE) return null;
+
+        var bodyLength = buffer.getInt(position);
+        var body = position + FRAME_HEADER_SIZE;
+        if (bodyLength < FRAME_FIXED_BODY_SIZE || bodyLength > buffer.capacity() - body) return null;
+        if (buffer.getInt(position + 4) != checksum(buffer, body, bodyLength)) return null;
+
+        var type = buffer.get(body);
+        if (type != PUT && type != DELETE) return null;
+        var payload = new byte[bodyLength - FRAME_FIXED_BODY_SIZE];
+        buffer.get(body + FRAME_FIXED_BODY_SIZE, payload);
+        return new Frame(type, buffer.getLong(body + 1), payload, body + bodyLength);
+    }
+
+    private static int checksum(ByteBuffer buffer, int position, int length) {
+        var crc = new CRC32();
+        crc.update(buffer.slice(position, length));
+        return (int) crc.getValue();
+    }
+
+    private static void clear(ByteBuffer buffer, int from, int to) {
+        for (int position = from; position < to; position += ZEROS.length) {
+            buffer.put(position, ZEROS, 0, Math.min(ZEROS.length, to - position));
+        }
+    }
+
+    private record Frame(byte type, long id, byte[] payload, int next) {
+    }
+}
@@ -0,0 +1,34 @@
+package academy.devdojo.store;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Binary form of a stored value, used by {@link MappedJournal} for log records and snapshots.
+ */
+public interface RecordCodec<T> {
+
+    void write(T value, DataOutput output) throws IOException;
+
+    T read(DataInput input) throws IOException;
+
+    static void writeString(DataOutput output, String value) throws IOException {
+        if (value == null) {
+            output.writeInt(-1);
+            return;
+        }
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    static String readString(DataInput input) throws IOException {
+        var length = input.readInt();
+        if (length < 0) return null;
+        var bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
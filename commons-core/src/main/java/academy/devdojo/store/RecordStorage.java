@@ -0,0 +1,30 @@
+package academy.devdojo.store;
+
+import java.util.function.Consumer;
+
+/**
+ * Where an {@link InMemoryStore} keeps its values, keyed by primitive id.
+ * <p>
+ * Implementations are not thread-safe; the store serializes writers. Reads may race a writer under an optimistic
+ * lock, so {@link #get(long)} must terminate and may only fail with a {@link RuntimeException} when it does.
+ */
+public interface RecordStorage<T> {
+
+    T get(long id);
+
+    T put(long id, T value);
+
+    T remove(long id);
+
+    int size();
+
+    void forEachValue(Consumer<? super T> action);
+
+    /**
+     * Whether {@link #get(long)} hands back the stored instance. Storages that materialize a new instance per read
+     * return {@code false}, and the store then builds {@code findAll} per call instead of caching a snapshot.
+     */
+    default boolean retainsValues() {
+        return true;
+    }
+}
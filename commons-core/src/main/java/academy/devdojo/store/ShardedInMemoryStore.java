@@ -0,0 +1,237 @@
+package academy.devdojo.store;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * {@link EntityStore} split by id hash into independently locked {@link InMemoryStore} shards, so writers to
+ * different shards never wait on each other.
+ * <p>
+ * {@link #findAll()} merges the shard snapshots and caches the result until any shard version moves. Each shard's
+ * part is consistent on its own, but the merged list is not one point in time across shards.
+ * <p>
+ * Unique index keys are claimed in a store-wide owner map before the owning shard applies the write and released
+ * if it does not. Writes to the same shard already serialize, so a per-shard claim lock keeps claim, write and
+ * release of an id atomic without serializing writers of different shards.
+ */
+public class ShardedInMemoryStore<T> implements EntityStore<T> {
+
+    private final Function<T, Long> idExtractor;
+    private final List<InMemoryStore<T>> shards;
+    private final List<ReentrantLock> claimLocks;
+    private final Map<String, UniqueIndex<T>> uniqueIndexes = new ConcurrentHashMap<>();
+    private volatile Snapshot<T> snapshot = new Snapshot<>(0, List.of());
+    private IdAllocator idAllocator;
+    private BiConsumer<T, Long> idAssigner;
+
+    public ShardedInMemoryStore(int shardCount, Function<T, Long> idExtractor, Supplier<InMemoryStore<T>> shardFactory) {
+        if (shardCount < 1) throw new IllegalArgumentException("shardCount must be positive");
+        this.idExtractor = idExtractor;
+        this.shards = new ArrayList<>(shardCount);
+        this.claimLocks = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(shardFactory.get());
+            claimLocks.add(new ReentrantLock());
+        }
+    }
+
+    public ShardedInMemoryStore<T> uniquelyIndexedBy(String indexName, Function<T, String> keyExtractor) {
+        shards.forEach(shard -> shard.uniquelyIndexedBy(indexName, keyExtractor));
+        uniqueIndexes.put(indexName, new UniqueIndex<>(keyExtractor));
+        return this;
+    }
+
+    public ShardedInMemoryStore<T> generatingIds(BiConsumer<T, Long> idAssigner) {
+        var allocator = new IdAllocator();
+        shards.forEach(shard -> shard.findAll().forEach(value -> allocator.advancePast(idExtractor.apply(value))));
+        this.idAllocator = allocator;
+        this.idAssigner = idAssigner;
+        return this;
+    }
+
+    @Override
+    public List<T> findAll() {
+        var combinedVersion = 0L;
+        var cacheable = true;
+        for (var shard : shards) {
+            combinedVersion += shard.version();
+            cacheable &= shard.cachesSnapshots();
+        }
+
+        var current = snapshot;
+        if (cacheable && current.version() == combinedVersion) return current.values();
+
+        var values = new ArrayList<T>();
+        shards.forEach(shard -> values.addAll(shard.findAll()));
+        values.sort(Comparator.comparing(idExtractor));
+        var merged = List.copyOf(values);
+        if (cacheable) snapshot = new Snapshot<>(combinedVersion, merged);
+        return merged;
+    }
+
+    @Override
+    public Optional<T> findById(Long id) {
+        return id == null ? Optional.empty() : shardFor(id).findById(id);
+    }
+
+    @Override
+    public List<T> findBy(String indexName, String key) {
+        var uniqueIndex = uniqueIndexes.get(indexName);
+        if (uniqueIndex != null) {
+            var owner = uniqueIndex.owner(key);
+            return owner == null ? List.of() : shardFor(owner).findBy(indexName, key);
+        }
+
+        var values = new ArrayList<T>();
+        shards.forEach(shard -> values.addAll(shard.findBy(indexName, key)));
+        return values;
+    }
+
+    @Override
+    public T save(T value) {
+        var id = idExtractor.apply(value);
+        if (id != null) {
+            if (idAllocator != null) idAllocator.advancePast(id);
+            var shard = shardFor(id);
+            claimingKeys(id, value, () -> {
+                shard.save(value);
+                return true;
+            });
+            return value;
+        }
+
+        if (idAllocator == null) throw new IllegalArgumentException("id must not be null");
+        boolean inserted;
+        do {
+            long generatedId = idAllocator.nextId();
+            idAssigner.accept(value, generatedId);
+            inserted = claimingKeys(generatedId, value, () -> shardFor(generatedId).insert(value));
+        } while (!inserted);
+        return value;
+    }
+
+    @Override
+    public boolean replace(T value) {
+        long id = idExtractor.apply(value);
+        return claimingKeys(id, value, () -> shardFor(id).replace(value));
+    }
+
+    @Override
+    public boolean replace(T value, long expectedVersion) {
+        long id = idExtractor.apply(value);
+        return claimingKeys(id, value, () -> shardFor(id).replace(value, expectedVersion));
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        if (id == null) return;
+        if (uniqueIndexes.isEmpty()) {
+            shardFor(id).deleteById(id);
+            return;
+        }
+
+        var claimLock = claimLockFor(id);
+        claimLock.lock();
+        try {
+            shardFor(id).deleteById(id);
+            uniqueIndexes.values().forEach(index -> index.released(id));
+        } finally {
+            claimLock.unlock();
+        }
+    }
+
+    @Override
+    public long versionOf(Long id) {
+        return id == null ? 0 : shardFor(id).versionOf(id);
+    }
+
+    private boolean claimingKeys(long id, T value, BooleanSupplier write) {
+        if (uniqueIndexes.isEmpty()) return write.getAsBoolean();
+
+        var claimLock = claimLockFor(id);
+        claimLock.lock();
+        try {
+            var claimed = new ArrayList<UniqueIndex<T>>();
+            var written = false;
+            try {
+                uniqueIndexes.forEach((indexName, index) -> {
+                    if (index.claim(indexName, id, value)) claimed.add(index);
+                });
+                written = write.getAsBoolean();
+            } finally {
+                if (!written) claimed.forEach(index -> index.unclaim(id, value));
+            }
+            if (!written) return false;
+            uniqueIndexes.values().forEach(index -> index.written(id, value));
+            return true;
+        } finally {
+            claimLock.unlock();
+        }
+    }
+
+    private InMemoryStore<T> shardFor(long id) {
+        return shards.get(shardIndex(id));
+    }
+
+    private ReentrantLock claimLockFor(long id) {
+        return claimLocks.get(shardIndex(id));
+    }
+
+    private int shardIndex(long id) {
+        var hash = id * 0x9E3779B97F4A7C15L;
+        return Math.floorMod((int) (hash ^ (hash >>> 32)), shards.size());
+    }
+
+    private record Snapshot<T>(long version, List<T> values) {
+    }
+
+    private static final class UniqueIndex<T> {
+        private final Function<T, String> keyExtractor;
+        private final Map<String, Long> ownersByKey = new ConcurrentHashMap<>();
+        private final Map<Long, String> keyById = new ConcurrentHashMap<>();
+
+        private UniqueIndex(Function<T, String> keyExtractor) {
+            this.keyExtractor = keyExtractor;
+        }
+
+        private Long owner(String key) {
+            return ownersByKey.get(key);
+        }
+
+        /**
+         * Returns whether the key was newly claimed for the id, throws if another id owns it.
+         */
+        private boolean claim(String indexName, long id, T value) {
+            var key = keyExtractor.apply(value);
+            if (key == null) return false;
+            var owner = ownersByKey.putIfAbsent(key, id);
+            if (owner != null && owner != id) throw new UniqueKeyViolationException(indexName, key);
+            return owner == null;
+        }
+
+        private void unclaim(long id, T value) {
+            var key = keyExtractor.apply(value);
+            if (key != null) ownersByKey.remove(key, id);
+        }
+
+        private void written(long id, T value) {
+            var key = keyExtractor.apply(value);
+            var previousKey = key == null ? keyById.remove(id) : keyById.put(id, key);
+            if (previousKey != null && !previousKey.equals(key)) ownersByKey.remove(previousKey, id);
+        }
+
+        private void released(long id) {
+            var previousKey = keyById.remove(id);
+            if (previousKey != null) ownersByKey.remove(previousKey, id);
+        }
+    }
+}
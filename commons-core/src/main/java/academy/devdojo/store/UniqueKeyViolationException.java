@@ -0,0 +1,23 @@
+package academy.devdojo.store;
+
+/**
+ * Thrown when a write would give a unique index key to a second id.
+ */
+public class UniqueKeyViolationException extends RuntimeException {
+    private final String indexName;
+    private final String key;
+
+    public UniqueKeyViolationException(String indexName, String key) {
+        super("Key '%s' of unique index '%s' is already in use".formatted(key, indexName));
+        this.indexName = indexName;
+        this.key = key;
+    }
+
+    public String getIndexName() {
+        return indexName;
+    }
+
+    public String getKey() {
+        return key;
+    }
+}
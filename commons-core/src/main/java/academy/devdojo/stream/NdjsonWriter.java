@@ -0,0 +1,33 @@
+package academy.devdojo.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes one JSON document per line, so list endpoints can stream rows as they are read instead of building the
+ * whole array first.
+ */
+@Component
+@RequiredArgsConstructor
+public class NdjsonWriter {
+    /**
+     * Fetch size that makes MySQL Connector/J stream a result set row by row instead of buffering it.
+     */
+    public static final String MYSQL_STREAMING_FETCH_SIZE = "" + Integer.MIN_VALUE;
+
+    private final ObjectMapper objectMapper;
+
+    public void write(OutputStream out, Object value) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(value));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
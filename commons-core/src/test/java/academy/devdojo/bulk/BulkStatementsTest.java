@@ -0,0 +1,56 @@
+package academy.devdojo.bulk;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaDelete;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.BDDMockito;
+import org.mockito.Mockito;
+
+import java.util.LinkedHashMap;
+import java.util.stream.LongStream;
+
+class BulkStatementsTest {
+
+    private EntityManager entityManager;
+    private BulkStatements bulkStatements;
+
+    @BeforeEach
+    void init() {
+        entityManager = Mockito.mock(EntityManager.class, Mockito.RETURNS_DEEP_STUBS);
+        bulkStatements = new BulkStatements(entityManager);
+    }
+
+    @Test
+    @DisplayName("deleteByIds() runs one statement per chunk and sums the affected rows")
+    void deleteByIds_RunsOneStatementPerChunk_WhenIdsExceedChunkSize() {
+        var ids = LongStream.rangeClosed(1, BulkStatements.CHUNK_SIZE * 2L + 1).boxed().toList();
+        BDDMockito.when(entityManager.createQuery(ArgumentMatchers.any(CriteriaDelete.class)).executeUpdate()).thenReturn(1000, 999, 1);
+
+        var affected = bulkStatements.deleteByIds(Object.class, ids);
+
+        Assertions.assertThat(affected).isEqualTo(2000);
+        var inOrder = Mockito.inOrder(entityManager);
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(entityManager).clear();
+    }
+
+    @Test
+    @DisplayName("updateByIds() runs a single statement for a chunk of values")
+    void updateByIds_RunsSingleStatement_WhenValuesFitInOneChunk() {
+        var namesById = new LinkedHashMap<Long, String>();
+        namesById.put(1L, "Naruto Shippuden");
+        namesById.put(2L, "Dragon Ball Z");
+        BDDMockito.when(entityManager.createQuery(ArgumentMatchers.any(CriteriaUpdate.class)).executeUpdate()).thenReturn(2);
+
+        var affected = bulkStatements.updateByIds(Object.class, "name", namesById);
+
+        Assertions.assertThat(affected).isEqualTo(2);
+        Mockito.verify(entityManager).flush();
+        Mockito.verify(entityManager).clear();
+    }
+}
@@ -0,0 +1,106 @@
+package academy.devdojo.cache;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class LookupCacheTest {
+
+    private LookupCache<Item> cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void init() {
+        cache = new LookupCache<>("items", 100, Duration.ofMinutes(1), Item::id);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("findById() loads once and serves the following lookups from the cache")
+    void findById_LoadsOnce_WhenCalledRepeatedly() {
+        var first = cache.findById(1L, id -> load(id, "a"));
+        var second = cache.findById(1L, id -> load(id, "a"));
+
+        Assertions.assertThat(second).isSameAs(first);
+        Assertions.assertThat(loads).hasValue(1);
+        Assertions.assertThat(cache.stats()).satisfies(stats -> {
+            Assertions.assertThat(stats.hitCount()).isEqualTo(1);
+            Assertions.assertThat(stats.missCount()).isEqualTo(1);
+            Assertions.assertThat(stats.hitRate()).isEqualTo(0.5);
+        });
+    }
+
+    @Test
+    @DisplayName("findById() does not cache a lookup whose loader throws")
+    void findById_DoesNotCache_WhenLoaderThrows() {
+        Assertions.assertThatIllegalStateException()
+                .isThrownBy(() -> cache.findById(1L, id -> {
+                    throw new IllegalStateException("not found");
+                }));
+
+        Assertions.assertThat(cache.findById(1L, id -> load(id, "a"))).isEqualTo(new Item(1L, "a"));
+        Assertions.assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("invalidate() evicts the id and every name entry that points at it")
+    void invalidate_EvictsNameEntries_WhenTheirIdIsInvalidated() {
+        cache.findById(1L, id -> load(id, "a"));
+        cache.findByName("a", name -> load(1L, name));
+        cache.findByName("b", name -> load(2L, name));
+
+        cache.invalidate(List.of(1L), List.of());
+
+        cache.findById(1L, id -> load(id, "a"));
+        cache.findByName("a", name -> load(1L, name));
+        cache.findByName("b", name -> load(2L, name));
+        Assertions.assertThat(loads).hasValue(5);
+    }
+
+    @Test
+    @DisplayName("findByName() does not cache a row whose id was invalidated while its loader ran")
+    void findByName_DoesNotCache_WhenIdIsInvalidatedDuringLoad() {
+        var stale = cache.findByName("a", name -> {
+            var item = load(1L, name);
+            cache.invalidate(List.of(1L), List.of());
+            return item;
+        });
+
+        var reloaded = cache.findByName("a", name -> load(1L, name));
+
+        Assertions.assertThat(reloaded).isEqualTo(stale).isNotSameAs(stale);
+        Assertions.assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("invalidate() leaves a name alone once it has moved to another id")
+    void invalidate_KeepsNameEntry_WhenNameMovedToAnotherId() {
+        cache.findByName("a", name -> load(1L, name));
+        cache.invalidate(List.of(), List.of("a"));
+        cache.findByName("a", name -> load(2L, name));
+
+        cache.invalidate(List.of(1L), List.of());
+
+        Assertions.assertThat(cache.findByName("a", name -> load(2L, name))).isEqualTo(new Item(2L, "a"));
+        Assertions.assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("invalidate() tolerates null ids and names")
+    void invalidate_IgnoresNulls_WhenSuccessful() {
+        Assertions.assertThatNoException().isThrownBy(() -> cache.invalidate(null, (String) null));
+    }
+
+    private Item load(Long id, String name) {
+        loads.incrementAndGet();
+        return new Item(id, name);
+    }
+
+    private record Item(Long id, String name) {
+    }
+}
@@ -0,0 +1,67 @@
+package academy.devdojo.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.mockito.Mockito;
+
+class SecondLevelCacheStatisticsTest {
+
+    private static final String PRODUCER_REGION = "academy.devdojo.domain.Producer";
+
+    private Statistics statistics;
+    private SecondLevelCacheStatistics secondLevelCacheStatistics;
+
+    @BeforeEach
+    void init() {
+        var entityManagerFactory = Mockito.mock(EntityManagerFactory.class);
+        var sessionFactory = Mockito.mock(SessionFactory.class);
+        statistics = Mockito.mock(Statistics.class);
+        BDDMockito.when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        BDDMockito.when(sessionFactory.getStatistics()).thenReturn(statistics);
+        secondLevelCacheStatistics = new SecondLevelCacheStatistics(entityManagerFactory);
+    }
+
+    @Test
+    @DisplayName("stats() reports the entity regions, the query region and the statement count")
+    void stats_ReportsEntityAndQueryRegions_WhenSuccessful() {
+        BDDMockito.when(statistics.getSecondLevelCacheRegionNames()).thenReturn(new String[]{PRODUCER_REGION});
+        BDDMockito.when(statistics.getPrepareStatementCount()).thenReturn(3L);
+        BDDMockito.when(statistics.getQueryCacheHitCount()).thenReturn(5L);
+        var producerRegion = regionStatistics(4, 1, 1);
+        var queryRegion = regionStatistics(5, 2, 2);
+        BDDMockito.when(statistics.getCacheRegionStatistics(PRODUCER_REGION)).thenReturn(producerRegion);
+        BDDMockito.when(statistics.getCacheRegionStatistics(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME)).thenReturn(queryRegion);
+
+        var stats = secondLevelCacheStatistics.stats();
+
+        Assertions.assertThat(stats.prepareStatementCount()).isEqualTo(3);
+        Assertions.assertThat(stats.queryCacheHitCount()).isEqualTo(5);
+        Assertions.assertThat(stats.regions()).containsExactly(
+                new CacheRegionStats(PRODUCER_REGION, 4, 1, 1),
+                new CacheRegionStats(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, 5, 2, 2));
+    }
+
+    @Test
+    @DisplayName("stats() skips regions that do not exist, such as the query region when the query cache is off")
+    void stats_SkipsMissingRegions_WhenQueryCacheIsDisabled() {
+        BDDMockito.when(statistics.getSecondLevelCacheRegionNames()).thenReturn(new String[0]);
+
+        Assertions.assertThat(secondLevelCacheStatistics.stats().regions()).isEmpty();
+    }
+
+    private static CacheRegionStatistics regionStatistics(long hits, long misses, long puts) {
+        var regionStatistics = Mockito.mock(CacheRegionStatistics.class);
+        BDDMockito.when(regionStatistics.getHitCount()).thenReturn(hits);
+        BDDMockito.when(regionStatistics.getMissCount()).thenReturn(misses);
+        BDDMockito.when(regionStatistics.getPutCount()).thenReturn(puts);
+        return regionStatistics;
+    }
+}
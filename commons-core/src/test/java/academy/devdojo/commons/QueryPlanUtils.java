@@ -0,0 +1,98 @@
+package academy.devdojo.commons;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+@Component
+@RequiredArgsConstructor
+public class QueryPlanUtils implements StatementInspector, HibernatePropertiesCustomizer {
+    public static final String SEED_PREFIX = "plan-seed-";
+    private static final Pattern TABLE_ALIAS = Pattern.compile("(?i)\\b(?:from|join)\\s+`?(\\w+)`?\\s+`?(\\w+)`?");
+    // Looked up on use: the entity manager factory depends on this bean, and the data source may depend on it.
+    private final ObjectProvider<JdbcTemplate> jdbcTemplate;
+    private volatile List<String> captured;
+
+    /**
+     * Registers this bean as the session factory's statement inspector and turns the query cache off, so every
+     * repository call under test reaches MySQL and its SQL can be captured.
+     */
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+        hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, false);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        var statements = captured;
+        if (statements != null) statements.add(sql);
+        return sql;
+    }
+
+    /**
+     * Runs the repository call, then {@code EXPLAIN}s the last statement Hibernate emitted for it, bound to
+     * {@code args} in placeholder order. Returns, per table in the plan, the index MySQL picked; a {@code null} value
+     * means that table is read with a full scan.
+     */
+    public Map<String, String> indexByTable(Runnable query, Object... args) {
+        var sql = lastStatementOf(query);
+        var tableByAlias = new HashMap<String, String>();
+        var matcher = TABLE_ALIAS.matcher(sql);
+        while (matcher.find()) tableByAlias.put(matcher.group(2), matcher.group(1));
+
+        var indexes = new LinkedHashMap<String, String>();
+        jdbcTemplate.getObject().queryForList("explain " + sql, args).forEach(row -> {
+            var table = (String) row.get("table");
+            indexes.put(tableByAlias.getOrDefault(table, table), (String) row.get("key"));
+        });
+        return indexes;
+    }
+
+    /**
+     * Inserts and commits {@code rows} rows into {@code table}, then refreshes its statistics so the optimizer costs
+     * plans against a realistically sized table. Call it outside the test transaction and remove the rows with
+     * {@link #deleteSeeded(String, String)}.
+     */
+    public void seed(String table, List<String> columns, int rows, IntFunction<Object[]> row) {
+        var placeholders = String.join(", ", Collections.nCopies(columns.size(), "?"));
+        var sql = "insert into `%s` (%s) values (%s)".formatted(table, String.join(", ", columns), placeholders);
+        jdbcTemplate.getObject().batchUpdate(sql, IntStream.range(0, rows).mapToObj(row).toList());
+        analyze(table);
+    }
+
+    public void deleteSeeded(String table, String column) {
+        jdbcTemplate.getObject().update("delete from `%s` where `%s` like ?".formatted(table, column), SEED_PREFIX + "%");
+        analyze(table);
+    }
+
+    private void analyze(String table) {
+        jdbcTemplate.getObject().queryForList("analyze table `%s`".formatted(table));
+    }
+
+    private String lastStatementOf(Runnable query) {
+        var statements = Collections.synchronizedList(new ArrayList<String>());
+        captured = statements;
+        try {
+            query.run();
+        } finally {
+            captured = null;
+        }
+        if (statements.isEmpty()) throw new IllegalStateException("The query did not reach the database");
+        return statements.get(statements.size() - 1);
+    }
+}
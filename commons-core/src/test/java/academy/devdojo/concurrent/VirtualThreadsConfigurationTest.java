@@ -0,0 +1,68 @@
+package academy.devdojo.concurrent;
+
+import org.apache.coyote.ProtocolHandler;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+class VirtualThreadsConfigurationTest {
+
+    private final VirtualThreadsConfiguration configuration = new VirtualThreadsConfiguration();
+
+    @Test
+    @DisplayName("virtualThreadsProtocolHandlerCustomizer() hands Tomcat an executor that runs requests on virtual threads")
+    void virtualThreadsProtocolHandlerCustomizer_RunsRequestsOnVirtualThreads() throws Exception {
+        var protocolHandler = Mockito.mock(ProtocolHandler.class);
+        var executor = ArgumentCaptor.forClass(Executor.class);
+
+        try (var httpExecutor = configuration.httpVirtualThreadExecutor()) {
+            configuration.virtualThreadsProtocolHandlerCustomizer(httpExecutor).customize(protocolHandler);
+
+            Mockito.verify(protocolHandler).setExecutor(executor.capture());
+            var thread = new CompletableFuture<Thread>();
+            executor.getValue().execute(() -> thread.complete(Thread.currentThread()));
+            Assertions.assertThat(thread.get(5, TimeUnit.SECONDS)).satisfies(handler -> {
+                Assertions.assertThat(handler.isVirtual()).isTrue();
+                Assertions.assertThat(handler.getName()).startsWith("http-vt-");
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("applicationTaskExecutor() runs @Async work on virtual threads")
+    void applicationTaskExecutor_RunsTasksOnVirtualThreads() throws Exception {
+        try (var taskExecutor = configuration.taskVirtualThreadExecutor()) {
+            var task = configuration.applicationTaskExecutor(taskExecutor).submit(Thread::currentThread);
+
+            Assertions.assertThat(task.get(5, TimeUnit.SECONDS)).satisfies(worker -> {
+                Assertions.assertThat(worker.isVirtual()).isTrue();
+                Assertions.assertThat(worker.getName()).startsWith("task-vt-");
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("Closing the context shuts both virtual-thread executors down")
+    void close_ShutsExecutorsDown_WhenContextCloses() {
+        var executors = new ArrayList<ExecutorService>();
+
+        new ApplicationContextRunner()
+                .withUserConfiguration(VirtualThreadsConfiguration.class)
+                .withPropertyValues("virtual-threads.enabled=true")
+                .run(context -> {
+                    executors.addAll(context.getBeansOfType(ExecutorService.class).values());
+                    Assertions.assertThat(executors).hasSize(2).noneMatch(ExecutorService::isShutdown);
+                });
+
+        Assertions.assertThat(executors).allMatch(ExecutorService::isShutdown);
+    }
+}
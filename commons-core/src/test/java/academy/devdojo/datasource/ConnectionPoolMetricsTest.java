@@ -0,0 +1,131 @@
+package academy.devdojo.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+class ConnectionPoolMetricsTest {
+
+    private ConnectionPoolMetrics metrics;
+
+    @BeforeEach
+    void init() {
+        metrics = new ConnectionPoolMetrics(Duration.ofMillis(50), Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("stats() reports the pool gauges and the acquire-time histogram")
+    void stats_ReportsGaugesAndAcquireHistogram_WhenConnectionsWereAcquired() {
+        var tracker = metrics.create("primary", poolStats(8, 2, 3, 10));
+
+        for (int i = 0; i < 98; i++) tracker.recordConnectionAcquiredNanos(TimeUnit.MICROSECONDS.toNanos(200));
+        tracker.recordConnectionAcquiredNanos(TimeUnit.MILLISECONDS.toNanos(20));
+        tracker.recordConnectionAcquiredNanos(TimeUnit.MILLISECONDS.toNanos(40));
+
+        Assertions.assertThat(metrics.stats()).singleElement().satisfies(stats -> {
+            Assertions.assertThat(stats.pool()).isEqualTo("primary");
+            Assertions.assertThat(stats.active()).isEqualTo(8);
+            Assertions.assertThat(stats.idle()).isEqualTo(2);
+            Assertions.assertThat(stats.pending()).isEqualTo(3);
+            Assertions.assertThat(stats.max()).isEqualTo(10);
+            Assertions.assertThat(stats.saturations()).isZero();
+            Assertions.assertThat(stats.acquire().count()).isEqualTo(100);
+            Assertions.assertThat(stats.acquire().p50Millis()).isEqualTo(0.25);
+            Assertions.assertThat(stats.acquire().p99Millis()).isEqualTo(25.0);
+            Assertions.assertThat(stats.acquire().maxMillis()).isEqualTo(40.0);
+            Assertions.assertThat(stats.acquire().buckets()).contains(new HistogramBucket(0.25, 98));
+        });
+    }
+
+    @Test
+    @DisplayName("stats() ranks the endpoints by the total time they held connections")
+    void stats_RanksHolders_WhenConnectionsWereUsedByEndpoints() {
+        var tracker = metrics.create("primary", poolStats(0, 10, 0, 10));
+
+        onEndpoint("GET", "/v1/animes/{id}");
+        tracker.recordConnectionUsageMillis(5);
+        tracker.recordConnectionUsageMillis(5);
+        onEndpoint("PUT", "/v1/animes");
+        tracker.recordConnectionUsageMillis(30);
+        RequestContextHolder.resetRequestAttributes();
+        tracker.recordConnectionUsageMillis(1);
+
+        Assertions.assertThat(metrics.stats()).singleElement().satisfies(stats -> {
+            Assertions.assertThat(stats.usage().count()).isEqualTo(4);
+            Assertions.assertThat(stats.holders()).containsExactly(
+                    new ConnectionHoldStats("PUT /v1/animes", 1, 30, 30),
+                    new ConnectionHoldStats("GET /v1/animes/{id}", 2, 10, 5),
+                    new ConnectionHoldStats(PoolMetricsTracker.OUTSIDE_REQUEST, 1, 1, 1));
+        });
+    }
+
+    @Test
+    @DisplayName("stats() counts a saturation when an acquisition exceeds the threshold or times out and resets the holders once reported")
+    void stats_CountsSaturations_WhenAcquisitionIsSlowOrTimesOut() {
+        var tracker = metrics.create("replica-0", poolStats(10, 0, 4, 10));
+        onEndpoint("GET", "/v1/animes");
+        tracker.recordConnectionUsageMillis(500);
+
+        tracker.recordConnectionAcquiredNanos(TimeUnit.MILLISECONDS.toNanos(49));
+        tracker.recordConnectionAcquiredNanos(TimeUnit.MILLISECONDS.toNanos(80));
+        tracker.recordConnectionTimeout();
+
+        Assertions.assertThat(metrics.stats()).singleElement().satisfies(stats -> {
+            Assertions.assertThat(stats.saturations()).isEqualTo(2);
+            Assertions.assertThat(stats.timeouts()).isEqualTo(1);
+            Assertions.assertThat(stats.holders()).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("postProcessAfterInitialization() instruments Hikari pools that do not report anywhere else yet")
+    void postProcessAfterInitialization_InstrumentsPool_WhenNoTrackerIsSet() {
+        var pool = new HikariDataSource();
+        var instrumented = new HikariDataSource();
+        var otherFactory = Mockito.mock(MetricsTrackerFactory.class);
+        instrumented.setMetricsTrackerFactory(otherFactory);
+
+        metrics.postProcessAfterInitialization(pool, "dataSource");
+        metrics.postProcessAfterInitialization(instrumented, "otherDataSource");
+
+        Assertions.assertThat(pool.getMetricsTrackerFactory()).isSameAs(metrics);
+        Assertions.assertThat(instrumented.getMetricsTrackerFactory()).isSameAs(otherFactory);
+    }
+
+    private static void onEndpoint(String method, String pattern) {
+        var request = new MockHttpServletRequest(method, pattern);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private static PoolStats poolStats(int active, int idle, int pending, int max) {
+        return new PoolStats(0) {
+            @Override
+            protected void update() {
+                activeConnections = active;
+                idleConnections = idle;
+                pendingThreads = pending;
+                totalConnections = active + idle;
+                maxConnections = max;
+            }
+        };
+    }
+}
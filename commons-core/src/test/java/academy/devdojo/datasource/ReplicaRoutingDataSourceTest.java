@@ -0,0 +1,181 @@
+package academy.devdojo.datasource;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.mockito.Mockito;
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+
+class ReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica0;
+    private DataSource replica1;
+    private Connection primaryConnection;
+    private Connection replica0Connection;
+    private Connection replica1Connection;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void init() throws SQLException {
+        primary = Mockito.mock(DataSource.class);
+        replica0 = Mockito.mock(DataSource.class);
+        replica1 = Mockito.mock(DataSource.class);
+        primaryConnection = Mockito.mock(Connection.class);
+        replica0Connection = Mockito.mock(Connection.class);
+        replica1Connection = Mockito.mock(Connection.class);
+        BDDMockito.when(primary.getConnection()).thenReturn(primaryConnection);
+        BDDMockito.when(replica0.getConnection()).thenReturn(replica0Connection);
+        BDDMockito.when(replica1.getConnection()).thenReturn(replica1Connection);
+
+        var replicas = new LinkedHashMap<String, DataSource>();
+        replicas.put("replica-0", replica0);
+        replicas.put("replica-1", replica1);
+        routing = new ReplicaRoutingDataSource(primary, replicas, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadYourWrites.close();
+    }
+
+    @Test
+    @DisplayName("getConnection() uses the primary outside read-only transactions")
+    void getConnection_UsesPrimary_WhenTransactionIsReadWrite() throws SQLException {
+        Assertions.assertThat(routing.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("getConnection() spreads read-only transactions over the replicas")
+    void getConnection_AlternatesReplicas_WhenTransactionIsReadOnly() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        Assertions.assertThat(routing.getConnection()).isSameAs(replica0Connection);
+        Assertions.assertThat(routing.getConnection()).isSameAs(replica1Connection);
+        Assertions.assertThat(routing.getConnection()).isSameAs(replica0Connection);
+    }
+
+    @Test
+    @DisplayName("getConnection() skips a replica that refused a connection and falls back to the primary when none is left")
+    void getConnection_FallsBack_WhenReplicasAreDown() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        BDDMockito.when(replica0.getConnection()).thenThrow(new SQLTransientConnectionException("replica-0 is down"));
+
+        Assertions.assertThat(routing.getConnection()).isSameAs(replica1Connection);
+        Assertions.assertThat(routing.getConnection()).isSameAs(replica1Connection);
+        Mockito.verify(replica0, Mockito.times(1)).getConnection();
+
+        BDDMockito.when(replica1.getConnection()).thenThrow(new SQLTransientConnectionException("replica-1 is down"));
+        Assertions.assertThat(routing.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("getConnection() keeps reads wrapped in ReplicaRouting.onPrimary() on the primary")
+    void getConnection_UsesPrimary_WhenPinnedByOnPrimary() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        Connection connection = ReplicaRouting.onPrimary(() -> {
+            try {
+                return routing.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        Assertions.assertThat(connection).isSameAs(primaryConnection);
+        Assertions.assertThat(routing.getConnection()).isSameAs(replica0Connection);
+    }
+
+    @Test
+    @DisplayName("getConnection() issues a token when a read-write transaction commits and keeps the session's following reads on the primary")
+    void getConnection_ReadsYourWrites_WhenSessionHasWritten() {
+        var tokens = new ArrayList<String>();
+        ReadYourWrites.open(null, Duration.ofMinutes(1), tokens::add);
+        var transactions = new TransactionTemplate(new DataSourceTransactionManager(lazyRouting()));
+
+        transactions.executeWithoutResult(status -> targetConnection());
+        Assertions.assertThat(tokens).hasSize(1);
+
+        transactions.setReadOnly(true);
+        Connection read = transactions.execute(status -> targetConnection());
+        Assertions.assertThat(read).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("getConnection() issues no token for reads outside a transaction or for rolled back transactions")
+    void getConnection_IssuesNoToken_WhenNothingWasCommitted() throws SQLException {
+        var tokens = new ArrayList<String>();
+        ReadYourWrites.open(null, Duration.ofMinutes(1), tokens::add);
+
+        routing.getConnection();
+        new TransactionTemplate(new DataSourceTransactionManager(lazyRouting())).executeWithoutResult(status -> {
+            targetConnection();
+            status.setRollbackOnly();
+        });
+
+        Assertions.assertThat(tokens).isEmpty();
+    }
+
+    @Test
+    @DisplayName("getConnection() keeps a read-only lookup inside a read-write transaction on the primary")
+    void getConnection_UsesPrimary_WhenReadOnlyLookupJoinsWritePath() {
+        var transactionManager = new DataSourceTransactionManager(lazyRouting());
+        var writePath = new TransactionTemplate(transactionManager);
+        var lookup = new TransactionTemplate(transactionManager);
+        lookup.setReadOnly(true);
+
+        Connection insideWrite = writePath.execute(status -> lookup.execute(inner -> targetConnection()));
+        Connection standalone = lookup.execute(status -> targetConnection());
+
+        Assertions.assertThat(insideWrite).isSameAs(primaryConnection);
+        Assertions.assertThat(standalone).isSameAs(replica0Connection);
+    }
+
+    @Test
+    @DisplayName("getConnection() honours a token sent back by the client only within the read-your-writes window")
+    void getConnection_HonoursClientToken_WhileWindowIsOpen() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        ReadYourWrites.open(String.valueOf(System.currentTimeMillis()), Duration.ofMinutes(1), token -> {
+        });
+        Assertions.assertThat(routing.getConnection()).isSameAs(primaryConnection);
+
+        ReadYourWrites.open(String.valueOf(System.currentTimeMillis() - Duration.ofMinutes(2).toMillis()), Duration.ofMinutes(1), token -> {
+        });
+        Assertions.assertThat(routing.getConnection()).isSameAs(replica0Connection);
+    }
+
+    // The transaction manager fetches its connection before binding the read-only flag; the proxy defers the fetch.
+    private LazyConnectionDataSourceProxy lazyRouting() {
+        var lazy = new LazyConnectionDataSourceProxy(routing);
+        lazy.setDefaultAutoCommit(true);
+        lazy.setDefaultTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+        return lazy;
+    }
+
+    private Connection targetConnection() {
+        var connection = TransactionSynchronizationManager.getResourceMap().values().stream()
+                .filter(ConnectionHolder.class::isInstance)
+                .map(holder -> ((ConnectionHolder) holder).getConnection())
+                .findFirst()
+                .orElseThrow();
+        return ((ConnectionProxy) connection).getTargetConnection();
+    }
+}
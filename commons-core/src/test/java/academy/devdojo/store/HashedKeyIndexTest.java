@@ -0,0 +1,44 @@
+package academy.devdojo.store;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+class HashedKeyIndexTest {
+
+    @Test
+    @DisplayName("forEachCandidate() hands out the ids of colliding keys, which callers filter out")
+    void forEachCandidate_IncludesCollidingKeys_WhenHashesMatch() {
+        var index = new HashedKeyIndex();
+        Assertions.assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+
+        index.add("Aa", 1L);
+        index.add("BB", 2L);
+        index.add("c", 3L);
+
+        Assertions.assertThat(candidatesOf(index, "Aa")).containsExactlyInAnyOrder(1L, 2L);
+        Assertions.assertThat(candidatesOf(index, "c")).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("remove() drops one (key, id) pair and keeps the rest reachable after the table grows")
+    void remove_KeepsOtherIdsReachable_WhenTableGrows() {
+        var index = new HashedKeyIndex();
+        LongStream.rangeClosed(1, 10_000).forEach(id -> index.add("key " + id % 100, id));
+        LongStream.rangeClosed(1, 10_000).filter(id -> id % 2 == 0).forEach(id -> index.remove("key " + id % 100, id));
+
+        Assertions.assertThat(index.size()).isEqualTo(5_000);
+        Assertions.assertThat(candidatesOf(index, "key 7")).hasSize(100).allMatch(id -> id % 100 == 7);
+        Assertions.assertThat(candidatesOf(index, "key 8")).isEmpty();
+    }
+
+    private static List<Long> candidatesOf(HashedKeyIndex index, String key) {
+        var ids = new ArrayList<Long>();
+        index.forEachCandidate(key, ids::add);
+        return ids;
+    }
+}
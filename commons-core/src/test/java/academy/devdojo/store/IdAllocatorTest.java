@@ -0,0 +1,55 @@
+package academy.devdojo.store;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+class IdAllocatorTest {
+
+    @Test
+    @DisplayName("nextId() continues after the last id it was seeded with")
+    void nextId_StartsAfterLastId_WhenSeeded() {
+        var allocator = new IdAllocator(41, 8);
+
+        Assertions.assertThat(allocator.nextId()).isEqualTo(42);
+        Assertions.assertThat(allocator.nextId()).isEqualTo(43);
+    }
+
+    @Test
+    @DisplayName("advancePast() makes later blocks start after the given id")
+    void advancePast_SkipsTakenIds_WhenIdIsAhead() {
+        var allocator = new IdAllocator(0, 2);
+        allocator.nextId();
+        allocator.nextId();
+
+        allocator.advancePast(100);
+
+        Assertions.assertThat(allocator.nextId()).isEqualTo(101);
+    }
+
+    @Test
+    @DisplayName("nextId() never hands out the same id twice across threads")
+    void nextId_ReturnsUniqueIds_WhenCalledConcurrently() throws Exception {
+        var allocator = new IdAllocator();
+        var executor = Executors.newFixedThreadPool(8);
+        var futures = new ArrayList<Future<List<Long>>>();
+
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> LongStream.range(0, 10_000).map(ignored -> allocator.nextId()).boxed().toList()));
+        }
+
+        var ids = new HashSet<Long>();
+        for (var future : futures) ids.addAll(future.get(10, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        Assertions.assertThat(ids).hasSize(80_000).allMatch(id -> id > 0);
+    }
+}
@@ -0,0 +1,164 @@
+package academy.devdojo.store;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+class InMemoryStoreTest {
+
+    private static final String NAME_INDEX = "name";
+
+    private InMemoryStore<Item> store;
+
+    @BeforeEach
+    void init() {
+        store = new InMemoryStore<>(Item::id).indexedBy(NAME_INDEX, Item::name);
+    }
+
+    @Test
+    @DisplayName("findAll() returns values ordered by id")
+    void findAll_ReturnsValuesOrderedById_WhenSuccessful() {
+        store.save(new Item(3L, "c"));
+        store.save(new Item(1L, "a"));
+        store.save(new Item(2L, "b"));
+
+        Assertions.assertThat(store.findAll()).extracting(Item::id).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("findAll() only rebuilds the snapshot after a write")
+    void findAll_ReusesSnapshot_WhenNothingWasWritten() {
+        store.save(new Item(1L, "a"));
+        var snapshot = store.findAll();
+        var version = store.version();
+
+        Assertions.assertThat(store.findAll()).isSameAs(snapshot);
+
+        store.deleteById(1L);
+
+        Assertions.assertThat(store.version()).isGreaterThan(version);
+        Assertions.assertThat(store.findAll()).isEmpty();
+        Assertions.assertThat(snapshot).containsExactly(new Item(1L, "a"));
+    }
+
+    @Test
+    @DisplayName("findBy() drops the old key when a value is replaced")
+    void findBy_ReturnsOnlyCurrentKey_WhenValueIsReplaced() {
+        store.save(new Item(1L, "a"));
+        store.save(new Item(1L, "b"));
+
+        Assertions.assertThat(store.findBy(NAME_INDEX, "a")).isEmpty();
+        Assertions.assertThat(store.findBy(NAME_INDEX, "b")).containsExactly(new Item(1L, "b"));
+    }
+
+    @Test
+    @DisplayName("findAll() can be iterated while other threads keep writing")
+    void findAll_DoesNotFail_WhenWritersRunConcurrently() throws Exception {
+        var executor = Executors.newFixedThreadPool(4);
+        var readers = new ArrayList<Future<?>>();
+
+        var writer = executor.submit(() -> LongStream.rangeClosed(1, 10_000)
+                .forEach(id -> store.save(new Item(id, "item " + id))));
+
+        for (int i = 0; i < 3; i++) {
+            readers.add(executor.submit(() -> {
+                while (!writer.isDone()) {
+                    List<Item> snapshot = store.findAll();
+                    if (!snapshot.isEmpty()) Assertions.assertThat(snapshot.get(snapshot.size() - 1).id()).isEqualTo(snapshot.size());
+                }
+            }));
+        }
+
+        writer.get(10, TimeUnit.SECONDS);
+        for (var reader : readers) reader.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        Assertions.assertThat(store.findAll()).hasSize(10_000);
+    }
+
+    @Test
+    @DisplayName("findBy() keeps finding a value while concurrent writes leave its key unchanged")
+    void findBy_FindsValue_WhenConcurrentUpdatesKeepItsKey() throws Exception {
+        store.save(new Item(1L, "a"));
+        var executor = Executors.newFixedThreadPool(4);
+        var readers = new ArrayList<Future<?>>();
+
+        var writer = executor.submit(() -> {
+            for (int i = 0; i < 20_000; i++) store.save(new Item(1L, "a"));
+        });
+
+        for (int i = 0; i < 3; i++) {
+            readers.add(executor.submit(() -> {
+                while (!writer.isDone()) Assertions.assertThat(store.findBy(NAME_INDEX, "a")).containsExactly(new Item(1L, "a"));
+            }));
+        }
+
+        writer.get(10, TimeUnit.SECONDS);
+        for (var reader : readers) reader.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("replace() with the expected version never loses a concurrent update")
+    void replace_AppliesEveryUpdate_WhenWritersRetryOnVersionConflict() throws Exception {
+        store.save(new Item(1L, "0"));
+        var executor = Executors.newFixedThreadPool(8);
+        var writers = new ArrayList<Future<?>>();
+
+        for (int i = 0; i < 8; i++) {
+            writers.add(executor.submit(() -> {
+                for (int increment = 0; increment < 500; increment++) {
+                    boolean replaced;
+                    do {
+                        var version = store.versionOf(1L);
+                        var current = store.findById(1L).orElseThrow();
+                        var next = new Item(1L, String.valueOf(Integer.parseInt(current.name()) + 1));
+                        replaced = store.replace(next, version);
+                    } while (!replaced);
+                }
+            }));
+        }
+
+        for (var writer : writers) writer.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        Assertions.assertThat(store.findById(1L)).contains(new Item(1L, "4000"));
+    }
+
+    @Test
+    @DisplayName("replace() returns false and stores nothing when id does not exist")
+    void replace_ReturnsFalse_WhenIdDoesNotExist() {
+        Assertions.assertThat(store.replace(new Item(1L, "a"))).isFalse();
+        Assertions.assertThat(store.findAll()).isEmpty();
+        Assertions.assertThat(store.versionOf(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("save() rejects a unique key owned by another id and keeps the store unchanged")
+    void save_ThrowsUniqueKeyViolationException_WhenUniqueKeyIsTaken() {
+        var uniqueStore = new InMemoryStore<>(Item::id).uniquelyIndexedBy(NAME_INDEX, Item::name);
+        uniqueStore.save(new Item(1L, "a"));
+        uniqueStore.save(new Item(2L, "b"));
+        var version = uniqueStore.version();
+
+        Assertions.assertThatExceptionOfType(UniqueKeyViolationException.class)
+                .isThrownBy(() -> uniqueStore.save(new Item(3L, "a")));
+        Assertions.assertThatExceptionOfType(UniqueKeyViolationException.class)
+                .isThrownBy(() -> uniqueStore.replace(new Item(2L, "a")));
+
+        Assertions.assertThat(uniqueStore.version()).isEqualTo(version);
+        Assertions.assertThat(uniqueStore.replace(new Item(1L, "a"))).isTrue();
+        Assertions.assertThat(uniqueStore.findBy(NAME_INDEX, "b")).containsExactly(new Item(2L, "b"));
+    }
+
+    private record Item(Long id, String name) {
+    }
+}
@@ -0,0 +1,53 @@
+package academy.devdojo.store;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+class LongLongHashMapTest {
+
+    @Test
+    @DisplayName("put() replaces the value and returns the previous one, or zero when the key is new")
+    void put_ReturnsPreviousValue_WhenKeyExists() {
+        var map = new LongLongHashMap();
+
+        Assertions.assertThat(map.put(1L, 10L)).isZero();
+        Assertions.assertThat(map.put(1L, 20L)).isEqualTo(10L);
+        Assertions.assertThat(map.get(1L)).isEqualTo(20L);
+        Assertions.assertThat(map.get(2L)).isZero();
+        Assertions.assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("remove() keeps colliding keys reachable after the table grows")
+    void remove_KeepsOtherKeysReachable_WhenSuccessful() {
+        var map = new LongLongHashMap(2);
+        var reference = new HashMap<Long, Long>();
+        var random = new Random(42);
+
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextInt(20_000) - 10_000;
+            if (random.nextBoolean()) {
+                var previous = reference.put(key, key + 100_000);
+                Assertions.assertThat(map.put(key, key + 100_000)).isEqualTo(previous == null ? 0 : previous);
+            } else {
+                var previous = reference.remove(key);
+                Assertions.assertThat(map.remove(key)).isEqualTo(previous == null ? 0 : previous);
+            }
+        }
+
+        Assertions.assertThat(map.size()).isEqualTo(reference.size());
+        reference.forEach((key, value) -> Assertions.assertThat(map.get(key)).isEqualTo(value));
+    }
+
+    @Test
+    @DisplayName("put() rejects zero values")
+    void put_ThrowsIllegalArgumentException_WhenValueIsZero() {
+        var map = new LongLongHashMap();
+
+        Assertions.assertThatThrownBy(() -> map.put(1L, 0L)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
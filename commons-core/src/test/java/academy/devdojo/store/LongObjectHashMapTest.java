@@ -0,0 +1,68 @@
+package academy.devdojo.store;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Random;
+
+class LongObjectHashMapTest {
+
+    @Test
+    @DisplayName("put() replaces the value and returns the previous one when key exists")
+    void put_ReturnsPreviousValue_WhenKeyExists() {
+        var map = new LongObjectHashMap<String>();
+
+        Assertions.assertThat(map.put(1L, "a")).isNull();
+        Assertions.assertThat(map.put(1L, "b")).isEqualTo("a");
+        Assertions.assertThat(map.get(1L)).isEqualTo("b");
+        Assertions.assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("get() finds every key after the table grows")
+    void get_ReturnsValues_WhenTableIsResized() {
+        var map = new LongObjectHashMap<Long>(2);
+
+        for (long key = -1_000; key < 100_000; key++) map.put(key, key);
+
+        Assertions.assertThat(map.size()).isEqualTo(101_000);
+        Assertions.assertThat(map.get(0L)).isZero();
+        Assertions.assertThat(map.get(-1_000L)).isEqualTo(-1_000L);
+        Assertions.assertThat(map.get(99_999L)).isEqualTo(99_999L);
+        Assertions.assertThat(map.get(100_000L)).isNull();
+    }
+
+    @Test
+    @DisplayName("remove() keeps colliding keys reachable")
+    void remove_KeepsOtherKeysReachable_WhenSuccessful() {
+        var map = new LongObjectHashMap<Long>();
+        var reference = new HashMap<Long, Long>();
+        var random = new Random(42);
+
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextInt(2_000);
+            if (random.nextBoolean()) {
+                Assertions.assertThat(map.put(key, key)).isEqualTo(reference.put(key, key));
+            } else {
+                Assertions.assertThat(map.remove(key)).isEqualTo(reference.remove(key));
+            }
+        }
+
+        Assertions.assertThat(map.size()).isEqualTo(reference.size());
+        reference.forEach((key, value) -> Assertions.assertThat(map.get(key)).isEqualTo(value));
+        var values = new ArrayList<Long>();
+        map.forEachValue(values::add);
+        Assertions.assertThat(values).hasSameElementsAs(reference.values());
+    }
+
+    @Test
+    @DisplayName("put() rejects null values")
+    void put_ThrowsIllegalArgumentException_WhenValueIsNull() {
+        var map = new LongObjectHashMap<String>();
+
+        Assertions.assertThatThrownBy(() -> map.put(1L, null)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
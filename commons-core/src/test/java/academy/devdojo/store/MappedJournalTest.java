@@ -0,0 +1,151 @@
+package academy.devdojo.store;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+class MappedJournalTest {
+
+    private static final RecordCodec<Item> CODEC = new RecordCodec<>() {
+        @Override
+        public void write(Item item, DataOutput output) throws IOException {
+            output.writeLong(item.id());
+            RecordCodec.writeString(output, item.name());
+        }
+
+        @Override
+        public Item read(DataInput input) throws IOException {
+            return new Item(input.readLong(), RecordCodec.readString(input));
+        }
+    };
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("recover() restores every put and delete after a restart")
+    void recover_RestoresStore_WhenJournalWasClosed() {
+        var journal = new MappedJournal<>(directory, CODEC);
+        var store = new InMemoryStore<>(Item::id).journaledTo(journal);
+        store.save(new Item(1L, "a"));
+        store.save(new Item(2L, "b"));
+        store.save(new Item(1L, "a2"));
+        store.deleteById(2L);
+        journal.close();
+
+        var recovered = new InMemoryStore<>(Item::id).journaledTo(new MappedJournal<>(directory, CODEC));
+
+        Assertions.assertThat(recovered.findAll()).containsExactly(new Item(1L, "a2"));
+    }
+
+    @Test
+    @DisplayName("recover() drops a torn frame at the end of the log and keeps appending after it")
+    void recover_DropsTornFrame_WhenLogTailIsTruncated() throws IOException {
+        var journal = new MappedJournal<>(directory, CODEC);
+        var store = new InMemoryStore<>(Item::id).journaledTo(journal);
+        store.save(new Item(1L, "a"));
+        store.save(new Item(2L, "b"));
+        store.save(new Item(3L, "c"));
+        journal.close();
+
+        truncateLogTail(3);
+
+        var reopened = new MappedJournal<>(directory, CODEC);
+        var recovered = new InMemoryStore<>(Item::id).journaledTo(reopened);
+        Assertions.assertThat(recovered.findAll()).containsExactly(new Item(1L, "a"), new Item(2L, "b"));
+
+        recovered.save(new Item(4L, "d"));
+        reopened.close();
+
+        var recoveredAgain = new InMemoryStore<>(Item::id).journaledTo(new MappedJournal<>(directory, CODEC));
+        Assertions.assertThat(recoveredAgain.findAll()).containsExactly(new Item(1L, "a"), new Item(2L, "b"), new Item(4L, "d"));
+    }
+
+    @Test
+    @DisplayName("compact() moves live values into a snapshot and restarts the log")
+    void compact_WritesSnapshot_WhenLogOutgrowsThreshold() {
+        var journal = new MappedJournal<>(directory, CODEC, Duration.ZERO, 256);
+        var store = new InMemoryStore<>(Item::id).journaledTo(journal);
+        for (long id = 1; id <= 100; id++) store.save(new Item(id, "item " + id));
+        for (long id = 1; id <= 50; id++) store.deleteById(id);
+        journal.close();
+
+        Assertions.assertThat(directory.resolve("snapshot.dat")).exists();
+
+        var recovered = new InMemoryStore<>(Item::id).journaledTo(new MappedJournal<>(directory, CODEC));
+        Assertions.assertThat(recovered.findAll()).hasSize(50).first().isEqualTo(new Item(51L, "item 51"));
+    }
+
+    @Test
+    @DisplayName("recover() keeps every record when a crash loses the snapshot rename before the directory was synced")
+    void recover_KeepsLog_WhenSnapshotRenameWasNotDurable() throws IOException {
+        var journal = new MappedJournal<>(directory, CODEC, Duration.ZERO, 256) {
+            @Override
+            void syncDirectory() throws IOException {
+                Files.delete(directory.resolve("snapshot.dat"));
+                throw new IOException("crashed before the directory was synced");
+            }
+        };
+        var store = new InMemoryStore<>(Item::id).journaledTo(journal);
+        Assertions.assertThatException().isThrownBy(() -> {
+            for (long id = 1; id <= 100; id++) store.save(new Item(id, "item " + id));
+        }).withRootCauseInstanceOf(IOException.class);
+        var saved = store.findAll().size();
+        journal.close();
+
+        Assertions.assertThat(directory.resolve("snapshot.dat")).doesNotExist();
+
+        var recovered = new InMemoryStore<>(Item::id).journaledTo(new MappedJournal<>(directory, CODEC));
+        Assertions.assertThat(recovered.findAll()).hasSize(saved).first().isEqualTo(new Item(1L, "item 1"));
+    }
+
+    @Test
+    @DisplayName("save() returns only after the journal synced, with concurrent writers sharing syncs")
+    void save_IsDurable_WhenManyWritersRunConcurrently() throws Exception {
+        var journal = new MappedJournal<>(directory, CODEC);
+        var store = new InMemoryStore<>(Item::id).journaledTo(journal);
+        var executor = Executors.newFixedThreadPool(8);
+        var writers = new ArrayList<Future<?>>();
+
+        for (long id = 1; id <= 2_000; id++) {
+            var item = new Item(id, "item " + id);
+            writers.add(executor.submit(() -> store.save(item)));
+        }
+        for (var writer : writers) writer.get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+        journal.close();
+
+        var recovered = new InMemoryStore<>(Item::id).journaledTo(new MappedJournal<>(directory, CODEC));
+        Assertions.assertThat(recovered.findAll()).hasSize(2_000);
+    }
+
+    private void truncateLogTail(int bytes) throws IOException {
+        var logFile = directory.resolve("journal.log");
+        var end = 16;
+        try (var channel = FileChannel.open(logFile, StandardOpenOption.READ)) {
+            var log = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            while (log.getInt(end) != 0) end += 8 + log.getInt(end);
+        }
+        try (var channel = FileChannel.open(logFile, StandardOpenOption.WRITE)) {
+            channel.truncate(end - bytes);
+        }
+        Assertions.assertThat(Files.size(logFile)).isEqualTo(end - bytes);
+    }
+
+    private record Item(Long id, String name) {
+    }
+}
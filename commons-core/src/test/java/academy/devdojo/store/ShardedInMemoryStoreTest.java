@@ -0,0 +1,135 @@
+package academy.devdojo.store;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+class ShardedInMemoryStoreTest {
+
+    private static final String NAME_INDEX = "name";
+
+    private ShardedInMemoryStore<Item> store;
+
+    @BeforeEach
+    void init() {
+        store = new ShardedInMemoryStore<>(4, Item::getId, () -> new InMemoryStore<>(Item::getId).indexedBy(NAME_INDEX, Item::getName))
+                .generatingIds(Item::setId);
+    }
+
+    @Test
+    @DisplayName("findAll() merges every shard ordered by id")
+    void findAll_ReturnsValuesOfAllShardsOrderedById_WhenSuccessful() {
+        for (long id = 20; id >= 1; id--) store.save(new Item(id, "item-" + id));
+
+        Assertions.assertThat(store.findAll()).extracting(Item::getId).containsExactlyElementsOf(
+                LongStream.rangeClosed(1, 20).boxed().toList());
+    }
+
+    @Test
+    @DisplayName("findAll() only rebuilds the merged snapshot after a write")
+    void findAll_ReusesMergedSnapshot_WhenNothingWasWritten() {
+        store.save(new Item(1L, "a"));
+        store.save(new Item(2L, "b"));
+        var snapshot = store.findAll();
+
+        Assertions.assertThat(store.findAll()).isSameAs(snapshot);
+
+        store.deleteById(2L);
+
+        Assertions.assertThat(store.findAll()).extracting(Item::getId).containsExactly(1L);
+        Assertions.assertThat(snapshot).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("findById(), findBy() and replace() reach the shard owning the id")
+    void operations_RouteToOwningShard_WhenSuccessful() {
+        for (long id = 1; id <= 8; id++) store.save(new Item(id, "item-" + id));
+        var version = store.versionOf(5L);
+
+        Assertions.assertThat(store.replace(new Item(5L, "renamed"), version)).isTrue();
+        Assertions.assertThat(store.replace(new Item(5L, "stale"), version)).isFalse();
+        Assertions.assertThat(store.findById(5L)).hasValueSatisfying(item -> Assertions.assertThat(item.getName()).isEqualTo("renamed"));
+        Assertions.assertThat(store.findBy(NAME_INDEX, "renamed")).extracting(Item::getId).containsExactly(5L);
+        Assertions.assertThat(store.findBy(NAME_INDEX, "item-5")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("save() hands out unique ids that continue after explicitly saved ones")
+    void save_GeneratesIdsAfterExistingOnes_WhenIdIsNull() {
+        store.save(new Item(100L, "explicit"));
+
+        var generated = store.save(new Item(null, "generated"));
+
+        Assertions.assertThat(generated.getId()).isGreaterThan(100L);
+        Assertions.assertThat(store.findById(generated.getId())).containsSame(generated);
+    }
+
+    @Test
+    @DisplayName("save() keeps every value when writers run concurrently")
+    void save_KeepsAllValues_WhenWritersRunConcurrently() throws Exception {
+        var executor = Executors.newFixedThreadPool(8);
+        var futures = new ArrayList<Future<?>>();
+        for (int writer = 0; writer < 8; writer++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 500; i++) store.save(new Item(null, "item"));
+            }));
+        }
+        for (var future : futures) future.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        var ids = store.findAll().stream().map(Item::getId).toList();
+        Assertions.assertThat(ids).hasSize(4000).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("save() and replace() keep a unique key to one id across all shards")
+    void save_ThrowsUniqueKeyViolationException_WhenUniqueKeyIsOwnedInAnotherShard() {
+        var uniqueStore = new ShardedInMemoryStore<>(4, Item::getId, () -> new InMemoryStore<>(Item::getId))
+                .uniquelyIndexedBy(NAME_INDEX, Item::getName);
+        for (long id = 1; id <= 8; id++) uniqueStore.save(new Item(id, "item-" + id));
+
+        for (long id = 2; id <= 8; id++) {
+            var other = new Item(id, "item-1");
+            Assertions.assertThatExceptionOfType(UniqueKeyViolationException.class).isThrownBy(() -> uniqueStore.replace(other));
+        }
+        Assertions.assertThatExceptionOfType(UniqueKeyViolationException.class)
+                .isThrownBy(() -> uniqueStore.save(new Item(9L, "item-1")));
+
+        uniqueStore.replace(new Item(1L, "renamed"));
+        uniqueStore.save(new Item(9L, "item-1"));
+        uniqueStore.deleteById(9L);
+        uniqueStore.save(new Item(10L, "item-1"));
+
+        Assertions.assertThat(uniqueStore.findBy(NAME_INDEX, "item-1")).extracting(Item::getId).containsExactly(10L);
+        Assertions.assertThat(uniqueStore.findBy(NAME_INDEX, "renamed")).extracting(Item::getId).containsExactly(1L);
+    }
+
+    private static final class Item {
+        private Long id;
+        private final String name;
+
+        private Item(Long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        Long getId() {
+            return id;
+        }
+
+        void setId(Long id) {
+            this.id = id;
+        }
+
+        String getName() {
+            return name;
+        }
+    }
+}
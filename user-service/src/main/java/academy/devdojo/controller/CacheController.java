@@ -0,0 +1,26 @@
+package academy.devdojo.controller;
+
+import academy.devdojo.cache.SecondLevelCacheStatistics;
+import academy.devdojo.cache.SecondLevelCacheStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping(path = {"v1/caches/", "v1/caches"})
+@Log4j2
+@RequiredArgsConstructor
+public class CacheController {
+
+    private final SecondLevelCacheStatistics secondLevelCacheStatistics;
+
+    @GetMapping("hibernate")
+    public ResponseEntity<SecondLevelCacheStats> hibernateStats() {
+        log.info("Request received to show Hibernate cache statistics");
+
+        return ResponseEntity.ok(secondLevelCacheStatistics.stats());
+    }
+}
@@ -0,0 +1,28 @@
+package academy.devdojo.controller;
+
+import academy.devdojo.datasource.ConnectionPoolMetrics;
+import academy.devdojo.datasource.ConnectionPoolStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping(path = {"v1/connection-pools/", "v1/connection-pools"})
+@Log4j2
+@RequiredArgsConstructor
+public class ConnectionPoolController {
+
+    private final ConnectionPoolMetrics connectionPoolMetrics;
+
+    @GetMapping
+    public ResponseEntity<List<ConnectionPoolStats>> stats() {
+        log.info("Request received to list connection pool statistics");
+
+        return ResponseEntity.ok(connectionPoolMetrics.stats());
+    }
+}
@@ -2,12 +2,14 @@ package academy.devdojo.controller;
 
 import academy.devdojo.exception.ApiError;
 import academy.devdojo.exception.DefaultErrorMessage;
+import academy.devdojo.http.EntityTags;
 import academy.devdojo.mapper.UserMapper;
 import academy.devdojo.request.UserPostRequest;
 import academy.devdojo.request.UserPutRequest;
 import academy.devdojo.response.UserGetResponse;
 import academy.devdojo.response.UserPostResponse;
 import academy.devdojo.service.UserService;
+import academy.devdojo.stream.NdjsonWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -18,9 +20,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -35,6 +43,8 @@ public class UserController {
 
     private final UserMapper mapper;
 
+    private final NdjsonWriter ndjsonWriter;
+
 
     @GetMapping("list")
 
@@ -48,14 +58,44 @@ public class UserController {
 
         log.debug("Request received to list all users");
 
-        var users = service.findAll();
-
-        var response = mapper.usersToGetResponseList(users);
+        var response = service.findAllProjected();
 
         return ResponseEntity.ok(response);
 
     }
 
+    @GetMapping(value = "stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream All Users", description = "Stream all users as newline-delimited JSON while they are read",
+            responses = {
+                    @ApiResponse(description = "One user per line",
+                            responseCode = "200",
+                            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = UserGetResponse.class)))
+            })
+    public ResponseEntity<StreamingResponseBody> stream() {
+
+        log.debug("Request received to stream all users");
+
+        StreamingResponseBody body = out -> service.forEach(user -> ndjsonWriter.write(out, mapper.toUserGetResponse(user)));
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping("paginated")
+    @Operation(summary = "Get Users Paginated", description = "Get one slice of users without counting all of them",
+            responses = {
+                    @ApiResponse(description = "Slice of users, 'last' tells whether another slice exists",
+                            responseCode = "200",
+                            content = @Content(mediaType = "application/json"))
+            })
+    public ResponseEntity<Slice<UserGetResponse>> list(@ParameterObject Pageable pageable) {
+
+        log.debug("Request received to list users paginated '{}'", pageable);
+
+        var response = service.findAll(pageable).map(mapper::toUserGetResponse);
+
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("{id}")
     @Operation(summary = "Get User by Id",
             responses = {
@@ -73,20 +113,16 @@ public class UserController {
 
         log.info("Request received find user by id '{}'", id);
 
-        var user = service.findById(id);
-
-        var response = mapper.toUserGetResponse(user);
+        var response = service.findProjectedById(id);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(EntityTags.of(response.getVersion())).body(response);
     }
 
     @GetMapping("filter")
     public ResponseEntity<UserGetResponse> findByFirstName(@RequestParam(required = false) String firstName) {
         log.info("Request received to list all users, param name '{}'", firstName);
 
-        var userFound = service.findByFirstName(firstName);
-
-        var userGetResponses = mapper.toUserGetResponse(userFound);
+        var userGetResponses = service.findProjectedByFirstName(firstName);
 
         return ResponseEntity.ok(userGetResponses);
     }
@@ -132,11 +168,13 @@ public class UserController {
     }
 
     @PutMapping
-    public ResponseEntity<Void> update(@RequestBody @Valid UserPutRequest request) {
+    public ResponseEntity<Void> update(@RequestBody @Valid UserPutRequest request,
+                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
         log.info("Request received to update the user '{}'", request);
 
         var userToUpdate = mapper.toUser(request);
+        userToUpdate.setVersion(EntityTags.expectedVersion(ifMatch));
 
         service.update(userToUpdate);
 
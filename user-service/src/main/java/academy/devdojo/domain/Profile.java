@@ -2,6 +2,8 @@ package academy.devdojo.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Setter
@@ -12,6 +14,8 @@ import lombok.*;
 @AllArgsConstructor
 @With
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Profile {
     @EqualsAndHashCode.Include
     @Id
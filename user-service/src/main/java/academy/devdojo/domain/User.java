@@ -2,6 +2,8 @@ package academy.devdojo.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Setter
@@ -11,6 +13,8 @@ import lombok.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @With
 public class User {
     @EqualsAndHashCode.Include
@@ -23,5 +27,7 @@ public class User {
     private String lastName;
     @Column(nullable = false, unique = true)
     private String email;
+    @Version
+    private Long version;
 
 }
@@ -6,6 +6,7 @@ import academy.devdojo.request.UserPutRequest;
 import academy.devdojo.response.UserGetResponse;
 import academy.devdojo.response.UserPostResponse;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
 import org.mapstruct.ReportingPolicy;
 
@@ -13,10 +14,12 @@ import java.util.List;
 
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING, unmappedSourcePolicy = ReportingPolicy.IGNORE)
 public interface UserMapper {
+    @Mapping(target = "version", ignore = true)
     User toUser(UserPostRequest request);
 
     UserPostResponse toUserPostResponse(User user);
 
+    @Mapping(target = "version", ignore = true)
     User toUser(UserPutRequest request);
 
     UserGetResponse toUserGetResponse(User user);
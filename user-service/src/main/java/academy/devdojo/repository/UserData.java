@@ -1,24 +1,69 @@
 package academy.devdojo.repository;
 
 import academy.devdojo.domain.User;
+import academy.devdojo.store.EntityStore;
+import academy.devdojo.store.InMemoryStore;
+import academy.devdojo.store.MappedJournal;
+import academy.devdojo.store.ShardedInMemoryStore;
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.stream.Stream;
 
 @Getter
 @Component
 public class UserData {
-    private final List<User> users = new ArrayList<>();
+    static final String EMAIL_INDEX = "email";
+
+    private final EntityStore<User> users;
+    @Getter(AccessLevel.NONE)
+    private final MappedJournal<User> journal;
+
+    public UserData(@Value("${user-service.in-memory.journal-directory:}") String journalDirectory,
+                    @Value("${user-service.in-memory.shards:1}") int shards) {
+        if (shards > 1 && !journalDirectory.isBlank()) {
+            throw new IllegalStateException("The in-memory journal cannot be combined with sharded stores");
+        }
+        this.journal = journalDirectory.isBlank() ? null : new MappedJournal<>(Path.of(journalDirectory, "users"), new UserRecordCodec());
+        this.users = shards > 1 ? newShardedUserStore(shards) : journaled(newUserStore());
+        if (!users.findAll().isEmpty()) return;
 
-    {
         var user1 = User.builder().id(1L).firstName("Pedro").lastName("Pereira").email("pedro@hotmail.com").build();
         var user2 = User.builder().id(2L).firstName("Bianca").lastName("Violante").email("bianca@hotmail.com").build();
         var user3 = User.builder().id(3L).firstName("Peter").lastName("Augusto").email("peter@hotmail.com").build();
 
-        users.addAll(List.of(user1, user2, user3));
+        Stream.of(user1, user2, user3).forEach(users::save);
+
+    }
+
+    @PreDestroy
+    void closeJournal() {
+        if (journal != null) journal.close();
+    }
+
+    private InMemoryStore<User> journaled(InMemoryStore<User> store) {
+        return journal == null ? store : store.journaledTo(journal);
+    }
+
+    static ShardedInMemoryStore<User> newShardedUserStore(int shards) {
+        return new ShardedInMemoryStore<>(shards, User::getId, () -> new InMemoryStore<>(User::getId))
+                .uniquelyIndexedBy(EMAIL_INDEX, user -> emailKey(user.getEmail()))
+                .generatingIds(User::setId);
+    }
+
+    static InMemoryStore<User> newUserStore() {
+        return new InMemoryStore<>(User::getId)
+                .uniquelyIndexedBy(EMAIL_INDEX, user -> emailKey(user.getEmail()))
+                .generatingIds(User::setId);
+    }
 
+    static String emailKey(String email) {
+        return email == null ? null : email.strip().toLowerCase(Locale.ROOT);
     }
 
 }
@@ -1,12 +1,15 @@
 package academy.devdojo.repository;
 
 import academy.devdojo.domain.User;
+import academy.devdojo.exception.InvalidEmailException;
+import academy.devdojo.store.UniqueKeyViolationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 @Repository
 @RequiredArgsConstructor
@@ -15,24 +18,43 @@ public class UserHardCodedRepository {
     private final UserData userData;
 
     public List<User> findAll() {
-        return userData.getUsers();
+        return userData.getUsers().findAll();
     }
 
     public Optional<User> findById(Long id) {
-        return userData.getUsers().stream().filter(user -> user.getId().equals(id)).findFirst();
+        return userData.getUsers().findById(id);
+    }
+
+    public Optional<User> findByEmail(String email) {
+        if (email == null) return Optional.empty();
+        return userData.getUsers().findBy(UserData.EMAIL_INDEX, UserData.emailKey(email)).stream().findFirst();
     }
 
     public User save(User user) {
-        userData.getUsers().add(user);
-        return user;
+        return withUniqueEmail(user, () -> userData.getUsers().save(user));
     }
 
     public void delete(User user) {
-        userData.getUsers().remove(user);
+        userData.getUsers().deleteById(user.getId());
+    }
+
+    public boolean update(User user) {
+        return withUniqueEmail(user, () -> userData.getUsers().replace(user));
+    }
+
+    public boolean update(User user, long expectedVersion) {
+        return withUniqueEmail(user, () -> userData.getUsers().replace(user, expectedVersion));
+    }
+
+    public long findVersionById(Long id) {
+        return userData.getUsers().versionOf(id);
     }
 
-    public void update(User user) {
-        delete(user);
-        save(user);
+    private <R> R withUniqueEmail(User user, Supplier<R> write) {
+        try {
+            return write.get();
+        } catch (UniqueKeyViolationException e) {
+            throw new InvalidEmailException("email '%s' is already in use".formatted(user.getEmail()));
+        }
     }
 }
@@ -0,0 +1,29 @@
+package academy.devdojo.repository;
+
+import academy.devdojo.domain.User;
+import academy.devdojo.store.RecordCodec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+public class UserRecordCodec implements RecordCodec<User> {
+
+    @Override
+    public void write(User user, DataOutput output) throws IOException {
+        output.writeLong(user.getId());
+        RecordCodec.writeString(output, user.getFirstName());
+        RecordCodec.writeString(output, user.getLastName());
+        RecordCodec.writeString(output, user.getEmail());
+    }
+
+    @Override
+    public User read(DataInput input) throws IOException {
+        return User.builder()
+                .id(input.readLong())
+                .firstName(RecordCodec.readString(input))
+                .lastName(RecordCodec.readString(input))
+                .email(RecordCodec.readString(input))
+                .build();
+    }
+}
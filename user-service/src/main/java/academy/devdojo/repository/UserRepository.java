@@ -1,14 +1,49 @@
 package academy.devdojo.repository;
 
 import academy.devdojo.domain.User;
+import academy.devdojo.response.UserGetResponse;
+import academy.devdojo.stream.NdjsonWriter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
     Optional<User> findByFirstName(String firstName);
+
+    Slice<User> findAllBy(Pageable pageable);
+
+    @Modifying
+    @Query("update User u set u.firstName = :firstName, u.lastName = :lastName, u.email = :email, u.version = u.version + 1 " +
+            "where u.id = :id and (:version is null or u.version = :version)")
+    int updateById(Long id, Long version, String firstName, String lastName, String email);
+
+    @Query("select u from User u order by u.id")
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = NdjsonWriter.MYSQL_STREAMING_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    Stream<User> streamAll();
+
+    @Query("select new academy.devdojo.response.UserGetResponse(u.id, u.firstName, u.lastName, u.email, u.version) from User u")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<UserGetResponse> findAllProjectedBy();
+
+    @Query("select new academy.devdojo.response.UserGetResponse(u.id, u.firstName, u.lastName, u.email, u.version) from User u where u.id = :id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<UserGetResponse> findProjectedById(Long id);
+
+    @Query("select new academy.devdojo.response.UserGetResponse(u.id, u.firstName, u.lastName, u.email, u.version) from User u where u.firstName = :firstName")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<UserGetResponse> findProjectedByFirstName(String firstName);
 }
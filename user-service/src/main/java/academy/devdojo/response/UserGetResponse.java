@@ -1,15 +1,22 @@
 package academy.devdojo.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 
 @Getter
 @Setter
 @ToString
+@NoArgsConstructor
+@AllArgsConstructor
 public class UserGetResponse {
     private Long id;
     private String firstName;
     private String lastName;
     private String email;
+    @JsonIgnore
+    private Long version;
 }
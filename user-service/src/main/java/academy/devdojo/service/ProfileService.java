@@ -4,6 +4,7 @@ import academy.devdojo.domain.Profile;
 import academy.devdojo.repository.ProfileRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -13,6 +14,7 @@ public class ProfileService {
 
     private final ProfileRepository repository;
 
+    @Transactional(readOnly = true)
     public List<Profile> findAll() {
 
         return repository.findAll();
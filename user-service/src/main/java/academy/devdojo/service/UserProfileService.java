@@ -5,6 +5,7 @@ import academy.devdojo.domain.UserProfile;
 import academy.devdojo.repository.UserProfileRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -14,11 +15,13 @@ public class UserProfileService {
 
     private final UserProfileRepository repository;
 
+    @Transactional(readOnly = true)
     public List<UserProfile> findAll() {
 
         return repository.findAll();
     }
 
+    @Transactional(readOnly = true)
     public List<User> findAllUserByProfileId(Long profileId) {
 
         return repository.findAllUserByProfileId(profileId);
@@ -3,34 +3,75 @@ package academy.devdojo.service;
 import academy.devdojo.domain.User;
 import academy.devdojo.exception.InvalidEmailException;
 import academy.devdojo.exception.NotFoundException;
+import academy.devdojo.exception.PreconditionFailedException;
 import academy.devdojo.repository.UserRepository;
+import academy.devdojo.response.UserGetResponse;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
+    private static final int MYSQL_DUPLICATE_ENTRY = 1062;
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
 
     private final UserRepository repository;
+    private final EntityManager entityManager;
 
+    @Transactional(readOnly = true)
     public List<User> findAll() {
         return repository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public void forEach(Consumer<User> action) {
+        try (var users = repository.streamAll()) {
+            users.forEach(user -> {
+                action.accept(user);
+                entityManager.detach(user);
+            });
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<User> findAll(Pageable pageable) {
+        return repository.findAllBy(pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public List<UserGetResponse> findAllProjected() {
+        return repository.findAllProjectedBy();
+    }
+
+    public UserGetResponse findProjectedById(Long id) {
+        return repository.findProjectedById(id).orElseThrow(() -> new NotFoundException("User not found"));
+    }
+
+    public UserGetResponse findProjectedByFirstName(String firstName) {
+        return repository.findProjectedByFirstName(firstName).orElseThrow(() -> new NotFoundException("User not found"));
+    }
+
     public User findById(Long id) {
         return repository.findById(id).orElseThrow(() -> new NotFoundException("User not found"));
     }
 
     @Transactional
     public User save(User user) {
-        assertEmailIsUnique(user.getEmail(), user.getId());
-        return repository.save(user);
-
+        return withUniqueEmail(user.getEmail(), () -> repository.saveAndFlush(user));
     }
 
+    @Transactional
     public void delete(Long id) {
 
         var userToDelete = findById(id);
@@ -38,26 +79,40 @@ public class UserService {
         repository.delete(userToDelete);
     }
 
+    /**
+     * Writes the user with a single {@code UPDATE ... WHERE id = ? AND version = ?}: no existence check and no email
+     * pre-check. The version is the one the caller read ({@code null} skips the check). Zero affected rows means the
+     * user is missing or was modified, which only then costs a second query to tell apart; a duplicate email is
+     * rejected by the unique key on {@code user.email}.
+     */
+    @Transactional
     public void update(User userToUpdate) {
-
-        assertUserExists(userToUpdate);
-
-        assertEmailIsUnique(userToUpdate.getEmail(), userToUpdate.getId());
-
-        repository.save(userToUpdate);
+        var id = userToUpdate.getId();
+        var updated = withUniqueEmail(userToUpdate.getEmail(), () -> repository.updateById(id, userToUpdate.getVersion(),
+                userToUpdate.getFirstName(), userToUpdate.getLastName(), userToUpdate.getEmail()));
+        if (updated == 0) {
+            throw repository.existsById(id) ? new PreconditionFailedException("User was modified since it was read") : new NotFoundException("User not found");
+        }
     }
 
-    private void assertUserExists(User user) {
-        findById(user.getId());
+    /**
+     * Translates a duplicate-key error into {@link InvalidEmailException}. Apart from the generated primary key, the
+     * email is the only unique key on {@code user}, so the error is matched by its vendor code and SQL state rather
+     * than by the key's name: databases adopted through {@code baseline-on-migrate} keep the name ddl-auto generated.
+     * Any other integrity violation (a foreign key, a null column) propagates unchanged.
+     */
+    private <T> T withUniqueEmail(String email, Supplier<T> write) {
+        try {
+            return write.get();
+        } catch (DataIntegrityViolationException e) {
+            if (!isDuplicateKey(e)) throw e;
+            throw new InvalidEmailException("email '%s' is already in use".formatted(email));
+        }
     }
 
-    private void assertEmailIsUnique(String email, Long userId) {
-        repository.findByEmail(email)
-                .ifPresent(userFound -> {
-                    if (!userFound.getId().equals(userId)) {
-                        throw new InvalidEmailException("email '%s' is already in use".formatted(email));
-                    }
-                });
+    private static boolean isDuplicateKey(DataIntegrityViolationException e) {
+        return NestedExceptionUtils.getMostSpecificCause(e) instanceof SQLException cause
+                && (cause.getErrorCode() == MYSQL_DUPLICATE_ENTRY || UNIQUE_VIOLATION_SQL_STATE.equals(cause.getSQLState()));
     }
 
 
@@ -0,0 +1,27 @@
+create table `profile`
+(
+    `id`          bigint       not null auto_increment,
+    `description` varchar(255) not null,
+    `name`        varchar(255) not null,
+    primary key (`id`)
+);
+
+create table `user`
+(
+    `id`         bigint       not null auto_increment,
+    `email`      varchar(255) not null,
+    `first_name` varchar(255) not null,
+    `last_name`  varchar(255) not null,
+    primary key (`id`),
+    constraint `uk_user_email` unique (`email`)
+);
+
+create table `user_profile`
+(
+    `id`         bigint not null auto_increment,
+    `profile_id` bigint not null,
+    `user_id`    bigint not null,
+    primary key (`id`),
+    constraint `fk_user_profile_profile` foreign key (`profile_id`) references `profile` (`id`),
+    constraint `fk_user_profile_user` foreign key (`user_id`) references `user` (`id`)
+);
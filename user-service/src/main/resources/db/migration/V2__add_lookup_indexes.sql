@@ -0,0 +1,5 @@
+create index `idx_user_first_name` on `user` (`first_name`);
+
+-- Covers findAllUserByProfileId: the profile filter and the user ids to join come from the index alone. MySQL drops
+-- the implicit single-column index it created for fk_user_profile_profile once this one can back the constraint.
+create index `idx_user_profile_profile_user` on `user_profile` (`profile_id`, `user_id`);
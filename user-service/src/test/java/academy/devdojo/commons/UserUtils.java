@@ -9,16 +9,16 @@ import java.util.List;
 @Component
 public class UserUtils {
     public List<User> newUserList() {
-        var user1 = User.builder().id(1L).firstName("Kiara").lastName("Violante").email("kiara@hotmail.com").build();
+        var user1 = User.builder().id(1L).firstName("Kiara").lastName("Violante").email("kiara@hotmail.com").version(0L).build();
 
-        var user2 = User.builder().id(2L).firstName("Jolie").lastName("Augusta").email("jolie@hotmail.com").build();
+        var user2 = User.builder().id(2L).firstName("Jolie").lastName("Augusta").email("jolie@hotmail.com").version(0L).build();
 
-        var user3 = User.builder().id(3L).firstName("Bruce").lastName("Banner").email("bruce@hotmail.com").build();
+        var user3 = User.builder().id(3L).firstName("Bruce").lastName("Banner").email("bruce@hotmail.com").version(0L).build();
 
         return new ArrayList<>(List.of(user1, user2, user3));
     }
 
     public User newUserSaved() {
-        return User.builder().id(99L).firstName("Test").lastName("Ing").email("testing@hotmail.com").build();
+        return User.builder().id(99L).firstName("Test").lastName("Ing").email("testing@hotmail.com").version(0L).build();
     }
 }
@@ -2,9 +2,12 @@ package academy.devdojo.controller;
 
 import academy.devdojo.commons.FileUtils;
 import academy.devdojo.commons.UserUtils;
+import academy.devdojo.domain.User;
 import academy.devdojo.exception.NotFoundException;
+import academy.devdojo.mapper.UserMapper;
 import academy.devdojo.mapper.UserMapperImpl;
 import academy.devdojo.service.UserService;
+import academy.devdojo.stream.NdjsonWriter;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Order;
@@ -18,6 +21,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
@@ -26,10 +32,11 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 @WebMvcTest(UserController.class)
-@Import({UserMapperImpl.class, FileUtils.class, UserUtils.class})
+@Import({UserMapperImpl.class, FileUtils.class, UserUtils.class, NdjsonWriter.class})
 class UserControllerTest {
     private static final String URL = "/v1/users";
 
@@ -44,6 +51,9 @@ class UserControllerTest {
     @Autowired
     private UserUtils userUtils;
 
+    @Autowired
+    private UserMapper mapper;
+
     @Autowired
     private FileUtils fileUtils;
 
@@ -54,7 +64,7 @@ class UserControllerTest {
 
         var response = fileUtils.readResourceFile("user/get/get-all-users-200.json");
 
-        BDDMockito.when(service.findAll()).thenReturn(userUtils.newUserList());
+        BDDMockito.when(service.findAllProjected()).thenReturn(mapper.usersToGetResponseList(userUtils.newUserList()));
 
         mockMvc.perform(MockMvcRequestBuilders.get(URL + "/list"))
                 .andDo(MockMvcResultHandlers.print())
@@ -71,12 +81,55 @@ class UserControllerTest {
 
         var response = fileUtils.readResourceFile("user/get/get-all-users-is-empty-list-200.json");
 
-        BDDMockito.when(service.findAll()).thenReturn(Collections.emptyList());
+        BDDMockito.when(service.findAllProjected()).thenReturn(Collections.emptyList());
 
         mockMvc.perform(MockMvcRequestBuilders.get(URL + "/list")).andDo(MockMvcResultHandlers.print()).andExpect(MockMvcResultMatchers.status().isOk()).andExpect(MockMvcResultMatchers.content().json(response));
 
     }
 
+    @Test
+    @DisplayName("stream() writes one user per line as NDJSON")
+    @Order(2)
+    public void stream_WritesUsersAsNdjson_WhenSuccessful() throws Exception {
+
+        var response = fileUtils.readResourceFile("user/get/get-all-users-stream-200.ndjson");
+
+        BDDMockito.doAnswer(invocation -> {
+            Consumer<User> action = invocation.getArgument(0);
+            userUtils.newUserList().forEach(action);
+            return null;
+        }).when(service).forEach(ArgumentMatchers.any());
+
+        var mvcResult = mockMvc.perform(MockMvcRequestBuilders.get(URL + "/stream"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(mvcResult))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(MockMvcResultMatchers.content().string(response));
+    }
+
+    @Test
+    @DisplayName("list() returns a slice of users without totals")
+    @Order(2)
+    public void list_ReturnsUsersSlice_WhenSuccessful() throws Exception {
+
+        var response = fileUtils.readResourceFile("user/get/get-users-paginated-200.json");
+
+        var slicedUsers = new SliceImpl<>(userUtils.newUserList().subList(0, 2), PageRequest.of(0, 2), true);
+
+        BDDMockito.when(service.findAll(ArgumentMatchers.any(Pageable.class))).thenReturn(slicedUsers);
+
+        mockMvc.perform(MockMvcRequestBuilders.get(URL + "/paginated").param("size", "2"))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().json(response))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").doesNotExist());
+
+    }
+
     @Test
     @DisplayName("findById() return user found by id")
     @Order(3)
@@ -88,7 +141,7 @@ class UserControllerTest {
 
         var userFound = userUtils.newUserList().stream().filter(user -> user.getId().equals(id)).findFirst().orElse(null);
 
-        BDDMockito.when(service.findById(id)).thenReturn(userFound);
+        BDDMockito.when(service.findProjectedById(id)).thenReturn(mapper.toUserGetResponse(userFound));
 
         mockMvc.perform(MockMvcRequestBuilders.get(URL + "/{id}", id)).andDo(MockMvcResultHandlers.print()).andExpect(MockMvcResultMatchers.status().isOk()).andExpect(MockMvcResultMatchers.content().json(response));
 
@@ -104,7 +157,7 @@ class UserControllerTest {
 
         var response = fileUtils.readResourceFile("user/user-response-not-found-error-404.json");
 
-        BDDMockito.when(service.findById(ArgumentMatchers.any()))
+        BDDMockito.when(service.findProjectedById(ArgumentMatchers.any()))
                 .thenThrow(new NotFoundException(USER_NOT_FOUND));
 
         mockMvc.perform(MockMvcRequestBuilders.get(URL + "/{id}", id))
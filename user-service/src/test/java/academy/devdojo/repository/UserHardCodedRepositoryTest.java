@@ -3,6 +3,8 @@ package academy.devdojo.repository;
 
 import academy.devdojo.commons.UserUtils;
 import academy.devdojo.domain.User;
+import academy.devdojo.exception.InvalidEmailException;
+import academy.devdojo.store.InMemoryStore;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,13 +13,19 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 @ExtendWith(MockitoExtension.class)
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 class UserHardCodedRepositoryTest {
 
     private List<User> users;
+    private InMemoryStore<User> store;
     @Mock
     private UserData userData;
     @InjectMocks
@@ -30,7 +38,11 @@ class UserHardCodedRepositoryTest {
 
         users = userUtils.newUserList();
 
-        BDDMockito.when(userData.getUsers()).thenReturn(users);
+        store = UserData.newUserStore();
+
+        BDDMockito.when(userData.getUsers()).thenReturn(store);
+
+        users.forEach(repository::save);
     }
 
     @Test
@@ -60,12 +72,23 @@ class UserHardCodedRepositoryTest {
 
         Assertions.assertThat(user).isEqualTo(userToSave).hasNoNullFieldsOrProperties();
 
-        repository.findAll();
+        var users = repository.findAll();
 
         Assertions.assertThat(users).contains(userToSave);
 
     }
 
+    @Test
+    @DisplayName("save() assigns the next id when User has none")
+    public void save_AssignsNextId_WhenIdIsNull() {
+
+        var user = repository.save(userUtils.newUserSaved().withId(null));
+
+        Assertions.assertThat(user.getId()).isGreaterThan(3L);
+
+        Assertions.assertThat(repository.findById(user.getId())).contains(user);
+    }
+
     @Test
     @DisplayName("delete() Remove a User")
     public void delete_RemoveUser_WhenSuccessful() {
@@ -74,7 +97,9 @@ class UserHardCodedRepositoryTest {
 
         repository.delete(userToDelete);
 
-        Assertions.assertThat(this.users).doesNotContain(userToDelete);
+        Assertions.assertThat(store.findAll()).doesNotContain(userToDelete);
+
+        Assertions.assertThat(repository.findById(userToDelete.getId())).isEmpty();
     }
 
     @Test
@@ -89,12 +114,122 @@ class UserHardCodedRepositoryTest {
 
         repository.update(userToUpdate);
 
-        Assertions.assertThat(this.users).contains(userToUpdate);
+        Assertions.assertThat(store.findAll()).contains(userToUpdate).hasSize(this.users.size());
 
-        this.users.stream().filter(users -> users.getId().equals(userToUpdate.getId())).findFirst()
+        repository.findById(userToUpdate.getId())
                 .ifPresent(user -> Assertions.assertThat(user.getFirstName()).isEqualTo(userToUpdate.getFirstName()));
 
     }
 
+    @Test
+    @DisplayName("update() does not insert a User when id does not exist")
+    public void update_ReturnsFalse_WhenUserIsNotFound() {
+
+        var userToUpdate = userUtils.newUserSaved();
+
+        Assertions.assertThat(repository.update(userToUpdate)).isFalse();
+
+        Assertions.assertThat(repository.findById(userToUpdate.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("update() with a stale version keeps the current User")
+    public void update_ReturnsFalse_WhenVersionIsStale() {
+
+        var version = repository.findVersionById(1L);
+
+        Assertions.assertThat(repository.update(this.users.get(0).withFirstName("First"), version)).isTrue();
+
+        Assertions.assertThat(repository.update(this.users.get(0).withFirstName("Second"), version)).isFalse();
+
+        Assertions.assertThat(repository.findById(1L)).hasValueSatisfying(user -> Assertions.assertThat(user.getFirstName()).isEqualTo("First"));
+    }
+
+    @Test
+    @DisplayName("findAll() returns a point-in-time snapshot that is not affected by later writes")
+    public void findAll_ReturnsStableSnapshot_WhenUsersAreSavedAfterwards() {
+
+        var snapshot = repository.findAll();
+
+        Assertions.assertThat(repository.findAll()).isSameAs(snapshot);
 
-}
\ No newline at end of file
+        repository.save(userUtils.newUserSaved());
+
+        Assertions.assertThat(snapshot).hasSameElementsAs(this.users);
+
+        Assertions.assertThat(repository.findAll()).hasSize(this.users.size() + 1);
+    }
+
+    @Test
+    @DisplayName("findByEmail() ignores case and surrounding blanks")
+    public void findByEmail_ReturnUserFound_WhenEmailDiffersInCase() {
+
+        var user = repository.findByEmail(" KIARA@Hotmail.com ");
+
+        Assertions.assertThat(user).contains(this.users.get(0));
+    }
+
+    @Test
+    @DisplayName("save() throws InvalidEmailException when email is already in use")
+    public void save_ThrowsInvalidEmailException_WhenEmailIsAlreadyInUse() {
+
+        var userToSave = userUtils.newUserSaved().withEmail("Jolie@Hotmail.com");
+
+        Assertions.assertThatException()
+                .isThrownBy(() -> repository.save(userToSave))
+                .isInstanceOf(InvalidEmailException.class);
+
+        Assertions.assertThat(repository.findById(userToSave.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("update() throws InvalidEmailException when email belongs to another User")
+    public void update_ThrowsInvalidEmailException_WhenEmailBelongsToAnotherUser() {
+
+        var userToUpdate = this.users.get(0).withEmail("bruce@hotmail.com");
+
+        Assertions.assertThatException()
+                .isThrownBy(() -> repository.update(userToUpdate))
+                .isInstanceOf(InvalidEmailException.class);
+
+        Assertions.assertThat(repository.findByEmail("kiara@hotmail.com")).contains(this.users.get(0));
+    }
+
+    @Test
+    @DisplayName("update() releases the previous email of a User")
+    public void update_ReleasesPreviousEmail_WhenEmailChanges() {
+
+        repository.update(this.users.get(0).withEmail("kiara.violante@hotmail.com"));
+
+        var user = repository.save(userUtils.newUserSaved().withEmail("kiara@hotmail.com"));
+
+        Assertions.assertThat(repository.findByEmail("kiara@hotmail.com")).contains(user);
+    }
+
+    @Test
+    @DisplayName("save() lets only one of many concurrent Users claim the same email")
+    public void save_AcceptsOnlyOneUser_WhenSameEmailIsSavedConcurrently() throws Exception {
+
+        var executor = Executors.newFixedThreadPool(8);
+        var futures = new ArrayList<Future<Boolean>>();
+        for (int i = 0; i < 8; i++) {
+            Callable<Boolean> task = () -> {
+                try {
+                    repository.save(userUtils.newUserSaved().withId(null));
+                    return true;
+                } catch (InvalidEmailException e) {
+                    return false;
+                }
+            };
+            futures.add(executor.submit(task));
+        }
+
+        var saved = 0;
+        for (var future : futures) if (future.get(10, TimeUnit.SECONDS)) saved++;
+        executor.shutdown();
+
+        Assertions.assertThat(saved).isEqualTo(1);
+
+        Assertions.assertThat(repository.findAll()).hasSize(this.users.size() + 1);
+    }
+}
@@ -1,20 +1,56 @@
 package academy.devdojo.repository;
 
+import academy.devdojo.commons.QueryPlanUtils;
 import academy.devdojo.config.IntegrationTestContainers;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.jdbc.Sql;
 
+import java.util.List;
+
+import static academy.devdojo.commons.QueryPlanUtils.SEED_PREFIX;
+
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QueryPlanUtils.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 class UserProfileRepositoryIT extends IntegrationTestContainers {
+    private static final int SEEDED_USERS = 2_000;
+    private static final int SEEDED_PROFILES = 20;
+    private static final long SEEDED_FIRST_ID = 1_000_000L;
 
     @Autowired
     private UserProfileRepository repository;
+    @Autowired
+    private QueryPlanUtils queryPlanUtils;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        queryPlanUtils.seed("profile", List.of("id", "name", "description"), SEEDED_PROFILES,
+                i -> new Object[]{SEEDED_FIRST_ID + i, SEED_PREFIX + i, "Seed"});
+        queryPlanUtils.seed("user", List.of("id", "first_name", "last_name", "email"), SEEDED_USERS,
+                i -> new Object[]{SEEDED_FIRST_ID + i, SEED_PREFIX + i, "Seed", SEED_PREFIX + i + "@devdojo.academy"});
+
+        var profileIds = seededIds("profile", "name");
+        var userIds = seededIds("user", "first_name");
+        queryPlanUtils.seed("user_profile", List.of("profile_id", "user_id"), userIds.size(),
+                i -> new Object[]{profileIds.get(i % profileIds.size()), userIds.get(i)});
+    }
+
+    @AfterAll
+    void deleteSeeded() {
+        jdbcTemplate.update("delete from `user_profile` where `profile_id` in (select `id` from `profile` where `name` like ?)", SEED_PREFIX + "%");
+        queryPlanUtils.deleteSeeded("user", "first_name");
+        queryPlanUtils.deleteSeeded("profile", "name");
+    }
 
     @Test
     @DisplayName("findAllUserByProfileId() must return a list of all users found by profile id")
@@ -33,5 +69,22 @@ class UserProfileRepositoryIT extends IntegrationTestContainers {
         users.forEach(user -> Assertions.assertThat(user).hasNoNullFieldsOrProperties());
     }
 
+    @Test
+    @DisplayName("findAllUserByProfileId() reads the profile's users from idx_user_profile_profile_user and joins by primary key")
+    @Order(3)
+    public void findAllUserByProfileId_UsesProfileUserIndex_WhenSuccessful() {
+
+        var profileId = seededIds("profile", "name").get(0);
+
+        var plan = queryPlanUtils.indexByTable(() -> Assertions.assertThat(repository.findAllUserByProfileId(profileId))
+                .hasSize(SEEDED_USERS / SEEDED_PROFILES), profileId);
 
-}
\ No newline at end of file
+        Assertions.assertThat(plan)
+                .containsEntry("user_profile", "idx_user_profile_profile_user")
+                .containsEntry("user", "PRIMARY");
+    }
+
+    private List<Long> seededIds(String table, String column) {
+        return jdbcTemplate.queryForList("select `id` from `%s` where `%s` like ? order by `id`".formatted(table, column), Long.class, SEED_PREFIX + "%");
+    }
+}
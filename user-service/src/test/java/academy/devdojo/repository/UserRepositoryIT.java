@@ -1,5 +1,6 @@
 package academy.devdojo.repository;
 
+import academy.devdojo.commons.QueryPlanUtils;
 import academy.devdojo.commons.UserUtils;
 import academy.devdojo.config.IntegrationTestContainers;
 import org.assertj.core.api.Assertions;
@@ -10,16 +11,36 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.jdbc.Sql;
 
+import java.util.List;
+
+import static academy.devdojo.commons.QueryPlanUtils.SEED_PREFIX;
+
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
-@Import({UserUtils.class})
+@Import({UserUtils.class, QueryPlanUtils.class})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 class UserRepositoryIT extends IntegrationTestContainers {
+    private static final int SEEDED_ROWS = 2_000;
+    private static final long SEEDED_FIRST_ID = 1_000_000L;
 
     @Autowired
     private UserRepository repository;
     @Autowired
     private UserUtils userUtils;
+    @Autowired
+    private QueryPlanUtils queryPlanUtils;
+
+    @BeforeAll
+    void seed() {
+        queryPlanUtils.seed("user", List.of("id", "first_name", "last_name", "email"), SEEDED_ROWS,
+                i -> new Object[]{SEEDED_FIRST_ID + i, seededFirstName(i), "Seed", seededEmail(i)});
+    }
+
+    @AfterAll
+    void deleteSeeded() {
+        queryPlanUtils.deleteSeeded("user", "first_name");
+    }
 
     @Test
     @DisplayName("save() creates an user")
@@ -42,5 +63,44 @@ class UserRepositoryIT extends IntegrationTestContainers {
         Assertions.assertThat(user).isNotEmpty();
     }
 
+    @Test
+    @DisplayName("findAllProjectedBy() returns users already projected to GET responses")
+    @Order(3)
+    @Sql("/sql/user/init_one_user.sql")
+    void findAllProjectedBy_ReturnUserResponses_WhenSuccessful() {
+
+        var users = repository.findAllProjectedBy();
 
-}
\ No newline at end of file
+        Assertions.assertThat(users).isNotEmpty().allSatisfy(user -> Assertions.assertThat(user).hasNoNullFieldsOrProperties());
+    }
+
+    @Test
+    @DisplayName("findByEmail() looks the user up through the unique email key")
+    @Order(4)
+    void findByEmail_UsesEmailUniqueKey_WhenSuccessful() {
+        var email = seededEmail(1_000);
+
+        var plan = queryPlanUtils.indexByTable(() -> Assertions.assertThat(repository.findByEmail(email)).isPresent(), email);
+
+        Assertions.assertThat(plan).containsEntry("user", "uk_user_email");
+    }
+
+    @Test
+    @DisplayName("findProjectedByFirstName() looks the user up through idx_user_first_name")
+    @Order(5)
+    void findProjectedByFirstName_UsesFirstNameIndex_WhenSuccessful() {
+        var firstName = seededFirstName(1_000);
+
+        var plan = queryPlanUtils.indexByTable(() -> Assertions.assertThat(repository.findProjectedByFirstName(firstName)).isPresent(), firstName);
+
+        Assertions.assertThat(plan).containsEntry("user", "idx_user_first_name");
+    }
+
+    private static String seededFirstName(int i) {
+        return "%s%05d".formatted(SEED_PREFIX, i);
+    }
+
+    private static String seededEmail(int i) {
+        return seededFirstName(i) + "@devdojo.academy";
+    }
+}
@@ -0,0 +1,75 @@
+package academy.devdojo.service;
+
+import academy.devdojo.config.IntegrationTestContainers;
+import academy.devdojo.domain.User;
+import academy.devdojo.exception.InvalidEmailException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+/**
+ * Runs against a database that predates the Flyway migrations: its schema was created by ddl-auto, so the email key
+ * carries Hibernate's generated name, and Flyway adopts it with {@code baseline-on-migrate}, skipping V1.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(UserService.class)
+class UserServiceBaselinedSchemaIT extends IntegrationTestContainers {
+    private static final String DATABASE = "baselined";
+    private static final String GENERATED_EMAIL_KEY = "UK_ob8kqyqqgmefl0aco34akdtpe";
+
+    @Autowired
+    private UserService service;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void baselinedSchema(DynamicPropertyRegistry registry) throws SQLException {
+        var url = "jdbc:mysql://%s:%d/%s".formatted(MY_SQL_CONTAINER.getHost(), MY_SQL_CONTAINER.getMappedPort(MySQLContainer.MYSQL_PORT), DATABASE);
+        try (var connection = DriverManager.getConnection(url.replace("/" + DATABASE, "/"), "root", MY_SQL_CONTAINER.getPassword());
+             var statement = connection.createStatement()) {
+            statement.execute("drop database if exists `%s`".formatted(DATABASE));
+            statement.execute("create database `%s`".formatted(DATABASE));
+            statement.execute("use `%s`".formatted(DATABASE));
+            statement.execute("create table `profile` (`id` bigint not null auto_increment, `description` varchar(255) not null, " +
+                    "`name` varchar(255) not null, primary key (`id`)) engine=InnoDB");
+            statement.execute("create table `user` (`id` bigint not null auto_increment, `email` varchar(255) not null, " +
+                    "`first_name` varchar(255) not null, `last_name` varchar(255) not null, primary key (`id`)) engine=InnoDB");
+            statement.execute("create table `user_profile` (`id` bigint not null auto_increment, `profile_id` bigint not null, " +
+                    "`user_id` bigint not null, primary key (`id`)) engine=InnoDB");
+            statement.execute("alter table `user` add constraint `%s` unique (`email`)".formatted(GENERATED_EMAIL_KEY));
+        }
+
+        registry.add("spring.datasource.url", () -> url);
+        registry.add("spring.datasource.username", () -> "root");
+        registry.add("spring.datasource.password", MY_SQL_CONTAINER::getPassword);
+        registry.add("spring.sql.init.mode", () -> "never");
+        registry.add("spring.flyway.enabled", () -> true);
+        registry.add("spring.flyway.baseline-on-migrate", () -> true);
+    }
+
+    @Test
+    @DisplayName("save() throws InvalidEmailException on a baselined schema whose email key keeps its generated name")
+    void save_ThrowsInvalidEmailException_WhenEmailKeyKeepsGeneratedName() {
+        var emailKeys = jdbcTemplate.queryForList("select index_name from information_schema.statistics " +
+                "where table_schema = database() and table_name = 'user' and column_name = 'email'", String.class);
+        Assertions.assertThat(emailKeys).containsExactly(GENERATED_EMAIL_KEY);
+
+        var email = "goku.son@hotmail.com";
+        service.save(User.builder().firstName("Goku").lastName("Son").email(email).build());
+
+        var duplicate = User.builder().firstName("Gohan").lastName("Son").email(email).build();
+        Assertions.assertThatException().isThrownBy(() -> service.save(duplicate)).isInstanceOf(InvalidEmailException.class);
+    }
+}
@@ -4,7 +4,10 @@ import academy.devdojo.commons.UserUtils;
 import academy.devdojo.domain.User;
 import academy.devdojo.exception.InvalidEmailException;
 import academy.devdojo.exception.NotFoundException;
+import academy.devdojo.exception.PreconditionFailedException;
 import academy.devdojo.repository.UserRepository;
+import academy.devdojo.response.UserGetResponse;
+import jakarta.persistence.EntityManager;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,7 +15,12 @@ import org.mockito.BDDMockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +33,9 @@ class UserServiceTest {
     @Mock
     private UserRepository repository;
 
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private UserUtils userUtils;
 
@@ -44,6 +55,42 @@ class UserServiceTest {
         Assertions.assertThat(test).hasSameElementsAs(this.users);
     }
 
+    @Test
+    @DisplayName("findAllProjected() returns users projected by the repository")
+    public void findAllProjected_ReturnsUserGetResponses_WhenSuccessful() {
+        var responses = List.of(new UserGetResponse(1L, "Kiara", "Violante", "kiara@hotmail.com", 0L));
+        BDDMockito.when(repository.findAllProjectedBy()).thenReturn(responses);
+        Assertions.assertThat(service.findAllProjected()).isSameAs(responses);
+    }
+
+    @Test
+    @DisplayName("findProjectedById() throws NotFoundException when user is not found")
+    public void findProjectedById_ThrowsNotFoundException_WhenUserIsNotFound() {
+        BDDMockito.when(repository.findProjectedById(99L)).thenReturn(Optional.empty());
+        Assertions.assertThatException().isThrownBy(() -> service.findProjectedById(99L)).isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("forEach() hands every streamed user to the action and detaches it")
+    public void forEach_VisitsAndDetachesEveryUser_WhenSuccessful() {
+        BDDMockito.when(repository.streamAll()).thenReturn(this.users.stream());
+        var visited = new ArrayList<User>();
+        service.forEach(visited::add);
+        Assertions.assertThat(visited).containsExactlyElementsOf(this.users);
+        this.users.forEach(user -> BDDMockito.verify(entityManager).detach(user));
+    }
+
+    @Test
+    @DisplayName("findAll() returns a slice of users without counting them")
+    public void findAll_ReturnsUsersSlice_WhenPaginated() {
+        var pageRequest = PageRequest.of(0, 2);
+        BDDMockito.when(repository.findAllBy(pageRequest)).thenReturn(new SliceImpl<>(this.users.subList(0, 2), pageRequest, true));
+        var slice = service.findAll(pageRequest);
+        Assertions.assertThat(slice.getContent()).containsExactlyElementsOf(this.users.subList(0, 2));
+        Assertions.assertThat(slice.hasNext()).isTrue();
+        BDDMockito.verify(repository, BDDMockito.never()).count();
+    }
+
     @Test
     @DisplayName("findById() Return the User found")
     public void findById_ReturnUserFound_WhenSuccessful() {
@@ -64,9 +111,7 @@ class UserServiceTest {
 
         var userToSave = userUtils.newUserSaved();
 
-        BDDMockito.when(repository.findByEmail(userToSave.getEmail())).thenReturn(Optional.empty());
-
-        BDDMockito.when(repository.save(userToSave)).thenReturn(userToSave);
+        BDDMockito.when(repository.saveAndFlush(userToSave)).thenReturn(userToSave);
 
         var user = service.save(userToSave);
 
@@ -110,17 +155,12 @@ class UserServiceTest {
 
         var userToUpdate = this.users.get(0).withFirstName("UPDATE");
 
-        var savedUser = this.users.get(0);
-
-        BDDMockito.when(repository.findByEmail(userToUpdate.getEmail())).thenReturn(Optional.of(savedUser));
-
-        BDDMockito.when(repository.findById(id)).thenReturn(Optional.of(userToUpdate));
-
-        BDDMockito.when(repository.save(userToUpdate)).thenReturn(userToUpdate);
-
+        BDDMockito.when(repository.updateById(id, userToUpdate.getVersion(), userToUpdate.getFirstName(), userToUpdate.getLastName(), userToUpdate.getEmail())).thenReturn(1);
 
         Assertions.assertThatNoException().isThrownBy(() -> service.update(userToUpdate));
 
+        BDDMockito.verify(repository, BDDMockito.never()).findById(id);
+        BDDMockito.verify(repository, BDDMockito.never()).findByEmail(userToUpdate.getEmail());
 
     }
 
@@ -131,12 +171,29 @@ class UserServiceTest {
 
         var userToUpdate = this.users.get(0).withFirstName("Update Exception");
 
-        BDDMockito.when(repository.findById(id)).thenReturn(Optional.empty());
+        BDDMockito.when(repository.updateById(id, userToUpdate.getVersion(), userToUpdate.getFirstName(), userToUpdate.getLastName(), userToUpdate.getEmail())).thenReturn(0);
+
+        BDDMockito.when(repository.existsById(id)).thenReturn(false);
 
         Assertions.assertThatException().isThrownBy(() -> service.update(userToUpdate)).isInstanceOf(NotFoundException.class);
 
     }
 
+    @Test
+    @DisplayName("update() Throw PreconditionFailedException when the user was modified since it was read")
+    public void update_ThrowsPreconditionFailedException_WhenVersionIsStale() {
+        var id = 1L;
+
+        var userToUpdate = this.users.get(0).withFirstName("Stale").withVersion(3L);
+
+        BDDMockito.when(repository.updateById(id, 3L, userToUpdate.getFirstName(), userToUpdate.getLastName(), userToUpdate.getEmail())).thenReturn(0);
+
+        BDDMockito.when(repository.existsById(id)).thenReturn(true);
+
+        Assertions.assertThatException().isThrownBy(() -> service.update(userToUpdate)).isInstanceOf(PreconditionFailedException.class);
+
+    }
+
     @Test
     @DisplayName("save() Throws InvalidEmailException when email is already been used")
     public void save_ThrowsInvalidEmailException_WhenEmailAlreadyBeenUsed() {
@@ -145,29 +202,45 @@ class UserServiceTest {
 
         var userToSave = userUtils.newUserSaved().withEmail(userEmailExists.getEmail());
 
-        BDDMockito.when(repository.findByEmail(userToSave.getEmail())).thenReturn(Optional.of(userEmailExists));
+        BDDMockito.when(repository.saveAndFlush(userToSave)).thenThrow(duplicateEmail(userToSave.getEmail()));
 
         Assertions.assertThatException().isThrownBy(() -> service.save(userToSave)).isInstanceOf(InvalidEmailException.class);
 
     }
 
+    @Test
+    @DisplayName("save() rethrows integrity violations that are not about the email unique key")
+    public void save_RethrowsDataIntegrityViolation_WhenViolationIsNotOnEmail() {
+
+        var userToSave = userUtils.newUserSaved();
+
+        var violation = new DataIntegrityViolationException("could not execute statement",
+                new SQLIntegrityConstraintViolationException("Column 'last_name' cannot be null", "23000", 1048));
+
+        BDDMockito.when(repository.saveAndFlush(userToSave)).thenThrow(violation);
+
+        Assertions.assertThatException().isThrownBy(() -> service.save(userToSave)).isSameAs(violation);
+
+    }
+
 
     @Test
     @DisplayName("update() Throw InvalidEmailException when user is already been used")
     public void update_ThrowsInvalidEmailException_WhenUserIsAlreadyBeenUsed() {
         var id = 1L;
 
-        var userToUpdate = this.users.get(0).withFirstName("Naruto");
-
-        var userToUpdate1 = this.users.get(1).withEmail(userToUpdate.getEmail());
-
-        BDDMockito.when(repository.findByEmail(userToUpdate.getEmail())).thenReturn(Optional.of(userToUpdate1));
+        var userToUpdate = this.users.get(0).withFirstName("Naruto").withEmail(this.users.get(1).getEmail());
 
-        BDDMockito.when(repository.findById(id)).thenReturn(Optional.of(userToUpdate));
+        BDDMockito.when(repository.updateById(id, userToUpdate.getVersion(), userToUpdate.getFirstName(), userToUpdate.getLastName(), userToUpdate.getEmail()))
+                .thenThrow(duplicateEmail(userToUpdate.getEmail()));
 
         Assertions.assertThatException().isThrownBy(() -> service.update(userToUpdate)).isInstanceOf(InvalidEmailException.class);
 
     }
 
-
-}
\ No newline at end of file
+    // What MySQL raises on a database whose email key still carries the name ddl-auto generated for it.
+    private static DataIntegrityViolationException duplicateEmail(String email) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new SQLIntegrityConstraintViolationException("Duplicate entry '%s' for key 'user.UK_ob8kqyqqgmefl0aco34akdtpe'".formatted(email), "23000", 1062));
+    }
+}